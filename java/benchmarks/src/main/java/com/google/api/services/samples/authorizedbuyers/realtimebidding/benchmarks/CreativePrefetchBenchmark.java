@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding.benchmarks;
+
+import com.google.api.services.realtimebidding.v1.RealTimeBidding;
+import com.google.api.services.realtimebidding.v1.model.Creative;
+import com.google.api.services.realtimebidding.v1.model.ListCreativesResponse;
+import com.google.api.services.samples.authorizedbuyers.realtimebidding.PrefetchingPageIterator;
+import com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.bidders.creatives.ListCreatives;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how long it takes to walk every page of bidders.creatives.list when each response is
+ * delayed by {@code latencyMillis} and the caller spends {@code consumerTokensPerCreative} units of
+ * CPU work on each creative, with and without prefetching.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreativePrefetchBenchmark {
+
+  private static final String PARENT = "bidders/1";
+  private static final int PAGE_COUNT = 20;
+  private static final int PAGE_SIZE = 50;
+
+  @Param({"20"})
+  public long latencyMillis;
+
+  @Param({"20000"})
+  public long consumerTokensPerCreative;
+
+  @Param({"1", "4"})
+  public int bufferedPages;
+
+  private RealTimeBidding client;
+  private ExecutorService executor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    client = new PagedCreativesTransport(PAGE_COUNT, PAGE_SIZE, latencyMillis).newClient();
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  public long sequential(Blackhole blackhole) throws IOException {
+    long creativeCount = 0;
+    String pageToken = null;
+
+    do {
+      ListCreativesResponse response =
+          client
+              .bidders()
+              .creatives()
+              .list(PARENT)
+              .setView("FULL")
+              .setPageSize(PAGE_SIZE)
+              .setPageToken(pageToken)
+              .execute();
+
+      List<Creative> creatives = response.getCreatives();
+      for (Creative creative : creatives) {
+        blackhole.consume(creative);
+        Blackhole.consumeCPU(consumerTokensPerCreative);
+        creativeCount++;
+      }
+      pageToken = response.getNextPageToken();
+    } while (pageToken != null);
+
+    return creativeCount;
+  }
+
+  @Benchmark
+  public long prefetching(Blackhole blackhole) {
+    long creativeCount = 0;
+
+    try (PrefetchingPageIterator<Creative> creatives =
+        ListCreatives.newPrefetchingIterator(
+            client, PARENT, null, "FULL", PAGE_SIZE, executor, bufferedPages)) {
+      while (creatives.hasNext()) {
+        blackhole.consume(creatives.next());
+        Blackhole.consumeCPU(consumerTokensPerCreative);
+        creativeCount++;
+      }
+    }
+
+    return creativeCount;
+  }
+}
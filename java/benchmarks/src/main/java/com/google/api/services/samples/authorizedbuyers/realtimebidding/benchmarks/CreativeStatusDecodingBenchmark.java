@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding.benchmarks;
+
+import com.google.api.services.pubsub.model.PubsubMessage;
+import com.google.api.services.pubsub.model.ReceivedMessage;
+import com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.bidders.creatives.CreativeStatus;
+import com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.bidders.creatives.CreativeStatusDecoder;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the number of creative status messages formatted per second by the original pretty
+ * printing path, which decodes each payload into a {@code String} and a JSON tree, against the
+ * streaming {@link CreativeStatusDecoder} used by the compact output format.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CreativeStatusDecodingBenchmark {
+
+  private static final int MESSAGE_COUNT = 1000;
+
+  private final List<ReceivedMessage> messages = new ArrayList<>(MESSAGE_COUNT);
+  private final CreativeStatusDecoder decoder = new CreativeStatusDecoder();
+  private final CreativeStatus status = new CreativeStatus();
+  private final StringBuilder builder = new StringBuilder();
+
+  /** Builds a payload resembling the creative status published for a watched creative. */
+  static String buildPayload(int index) {
+    return String.format(
+        "{\"name\":\"buyers/1/creatives/creative-%1$d\",\"accountId\":\"1\","
+            + "\"creativeId\":\"creative-%1$d\",\"creativeServingDecision\":{"
+            + "\"dealsPolicyCompliance\":{\"status\":\"APPROVED\"},"
+            + "\"networkPolicyCompliance\":{\"status\":\"%2$s\",\"topics\":[{"
+            + "\"policyTopic\":\"ALCOHOL\",\"helpCenterUrl\":\"https://support.google.com/x\","
+            + "\"evidences\":[{\"destinationUrl\":{\"destinationUrl\":\"https://example.com\"}}]}]},"
+            + "\"platformPolicyCompliance\":{\"status\":\"APPROVED\"},"
+            + "\"chinaPolicyCompliance\":{\"status\":\"APPROVED\"},"
+            + "\"russiaPolicyCompliance\":{\"status\":\"APPROVED\"},"
+            + "\"detectedClickThroughUrls\":[\"https://example.com/%1$d\"],"
+            + "\"detectedDomains\":[\"example.com\"],\"detectedLanguages\":[\"en\"],"
+            + "\"detectedProductCategories\":[10001,10002],\"detectedVendorIds\":[113,144],"
+            + "\"lastStatusUpdate\":\"2026-01-01T00:00:00.000Z\"}}",
+        index, index % 3 == 0 ? "DISAPPROVED" : "APPROVED");
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    for (int i = 0; i < MESSAGE_COUNT; i++) {
+      Map<String, String> attributes = new HashMap<>();
+      attributes.put("accountId", "1");
+      attributes.put("creativeId", "creative-" + i);
+
+      PubsubMessage message =
+          new PubsubMessage()
+              .setMessageId(Integer.toString(i))
+              .setAttributes(attributes)
+              .encodeData(buildPayload(i).getBytes(StandardCharsets.UTF_8));
+      messages.add(new ReceivedMessage().setAckId("ack-" + i).setMessage(message));
+    }
+  }
+
+  /** The original formatting path, with the Gson instance created once per pull. */
+  @Benchmark
+  @OperationsPerInvocation(MESSAGE_COUNT)
+  public void pretty(Blackhole blackhole) {
+    Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    for (ReceivedMessage receivedMessage : messages) {
+      PubsubMessage message = receivedMessage.getMessage();
+      Map<String, String> attributes = message.getAttributes();
+      String decodedData = new String(message.decodeData());
+      JsonElement jsonElement = JsonParser.parseString(decodedData);
+
+      blackhole.consume(
+          String.format(
+              "* Creative found for buyer account ID '%s' with creative ID '%s' "
+                  + "has been updated with the following creative status:\n%s\n\n",
+              attributes.get("accountId"), attributes.get("creativeId"), gson.toJson(jsonElement)));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(MESSAGE_COUNT)
+  public void compact(Blackhole blackhole) throws IOException {
+    for (ReceivedMessage receivedMessage : messages) {
+      decoder.decode(receivedMessage, status);
+      builder.setLength(0);
+      blackhole.consume(status.appendCompact(builder).toString());
+    }
+  }
+
+  /** Decoding alone, without formatting the decoded status. */
+  @Benchmark
+  @OperationsPerInvocation(MESSAGE_COUNT)
+  public void decodeOnly(Blackhole blackhole) throws IOException {
+    for (ReceivedMessage receivedMessage : messages) {
+      blackhole.consume(decoder.decode(receivedMessage, status).getNetworkPolicyStatus());
+    }
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding.benchmarks;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.Json;
+import com.google.api.client.json.jackson2.JacksonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.realtimebidding.v1.RealTimeBidding;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A mock transport that serves a fixed number of pages of creatives, sleeping for a configurable
+ * amount of time before each response to simulate network latency.
+ */
+public class PagedCreativesTransport extends MockHttpTransport {
+
+  private final int pageCount;
+  private final long latencyMillis;
+  private final String[] pages;
+
+  /**
+   * @param pageCount The number of pages to serve before omitting the next page token.
+   * @param creativesPerPage The number of creatives in each page.
+   * @param latencyMillis The time to wait before answering each request.
+   */
+  public PagedCreativesTransport(int pageCount, int creativesPerPage, long latencyMillis) {
+    this.pageCount = pageCount;
+    this.latencyMillis = latencyMillis;
+    this.pages = new String[pageCount];
+
+    for (int page = 0; page < pageCount; page++) {
+      pages[page] = buildPage(page, creativesPerPage, page + 1 < pageCount);
+    }
+  }
+
+  /** Builds the JSON body of a single page of a creatives.list response. */
+  public static String buildPage(int page, int creativesPerPage, boolean hasNextPage) {
+    StringBuilder builder = new StringBuilder("{\"creatives\": [");
+
+    for (int i = 0; i < creativesPerPage; i++) {
+      int creativeId = page * creativesPerPage + i;
+      if (i > 0) {
+        builder.append(',');
+      }
+      builder
+          .append("{\"name\": \"buyers/1/creatives/creative-")
+          .append(creativeId)
+          .append("\", \"accountId\": \"1\", \"creativeId\": \"creative-")
+          .append(creativeId)
+          .append("\", \"advertiserName\": \"Advertiser ")
+          .append(creativeId % 97)
+          .append("\", \"version\": 1, \"creativeFormat\": \"HTML\"")
+          .append(", \"declaredClickThroughUrls\": [\"https://www.example.com/landing/")
+          .append(creativeId)
+          .append("\"], \"declaredAttributes\": [\"CREATIVE_TYPE_HTML\"]")
+          .append(", \"declaredVendorIds\": [")
+          .append(creativeId % 11)
+          .append("], \"creativeServingDecision\": {")
+          .append("\"dealsPolicyCompliance\": {\"status\": \"APPROVED\"}, ")
+          .append("\"networkPolicyCompliance\": {\"status\": \"APPROVED\"}, ")
+          .append("\"platformPolicyCompliance\": {\"status\": \"APPROVED\"}, ")
+          .append("\"chinaPolicyCompliance\": {\"status\": \"DISAPPROVED\"}, ")
+          .append("\"russiaPolicyCompliance\": {\"status\": \"PENDING_REVIEW\"}}")
+          .append(", \"html\": {\"snippet\": \"<iframe src=\\\"https://ads.example.com/")
+          .append(creativeId)
+          .append("\\\"></iframe>\", \"height\": 250, \"width\": 300}}");
+    }
+
+    builder.append(']');
+    if (hasNextPage) {
+      builder.append(", \"nextPageToken\": \"").append(page + 1).append('"');
+    }
+    return builder.append('}').toString();
+  }
+
+  /** Creates a Real-time Bidding API client that sends its requests to this transport. */
+  public RealTimeBidding newClient() {
+    return new RealTimeBidding.Builder(this, JacksonFactory.getDefaultInstance(), null)
+        .setApplicationName("PagedCreativesTransport")
+        .build();
+  }
+
+  /** Returns the number of pages served by this transport. */
+  public int getPageCount() {
+    return pageCount;
+  }
+
+  @Override
+  public LowLevelHttpRequest buildRequest(String method, final String url) {
+    return new MockLowLevelHttpRequest(url) {
+      @Override
+      public LowLevelHttpResponse execute() throws IOException {
+        if (latencyMillis > 0) {
+          try {
+            TimeUnit.MILLISECONDS.sleep(latencyMillis);
+          } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+          }
+        }
+
+        Object pageToken = new GenericUrl(url).getFirst("pageToken");
+        int page = pageToken == null ? 0 : Integer.parseInt(pageToken.toString());
+
+        return new MockLowLevelHttpResponse()
+            .setContentType(Json.MEDIA_TYPE)
+            .setContent(pages[page]);
+      }
+    };
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding.benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A minimal HTTP server bound to the loopback interface that answers every request with the same
+ * JSON body, used to benchmark the client stack without reaching Google's servers.
+ */
+public class StubServer implements AutoCloseable {
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  public StubServer(String responseJson) throws IOException {
+    final byte[] body = responseJson.getBytes(StandardCharsets.UTF_8);
+
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    executor = Executors.newFixedThreadPool(4);
+    server.setExecutor(executor);
+    server.createContext(
+        "/",
+        exchange -> {
+          try (InputStream requestBody = exchange.getRequestBody()) {
+            while (requestBody.read() != -1) {
+              // Drain the request so the connection can be reused.
+            }
+          }
+          exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+          }
+        });
+    server.start();
+  }
+
+  /** Returns the root URL of the server, suitable for a client's {@code setRootUrl}. */
+  public String getRootUrl() {
+    return String.format("http://localhost:%d/", server.getAddress().getPort());
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+}
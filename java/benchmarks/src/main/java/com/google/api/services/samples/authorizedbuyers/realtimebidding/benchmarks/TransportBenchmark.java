@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding.benchmarks;
+
+import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.json.jackson2.JacksonFactory;
+import com.google.api.services.realtimebidding.v1.RealTimeBidding;
+import com.google.api.services.realtimebidding.v1.model.ListBiddersResponse;
+import com.google.api.services.samples.authorizedbuyers.realtimebidding.Utils;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the latency of a bidders.list request made with a freshly created transport, as every
+ * sample did before clients were shared, against one made with the shared pooled transport from
+ * {@link Utils#getHttpTransport()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransportBenchmark {
+
+  private StubServer server;
+  private RealTimeBidding warmClient;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException, GeneralSecurityException {
+    server = new StubServer("{\"bidders\": [{\"name\": \"bidders/1\"}]}");
+    warmClient = newClient(Utils.getHttpTransport());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    server.close();
+  }
+
+  private RealTimeBidding newClient(HttpTransport transport) {
+    return new RealTimeBidding.Builder(transport, JacksonFactory.getDefaultInstance(), null)
+        .setRootUrl(server.getRootUrl())
+        .setApplicationName("TransportBenchmark")
+        .build();
+  }
+
+  @Benchmark
+  public ListBiddersResponse coldRequest() throws IOException, GeneralSecurityException {
+    HttpTransport transport = GoogleNetHttpTransport.newTrustedTransport();
+    try {
+      return newClient(transport).bidders().list().execute();
+    } finally {
+      transport.shutdown();
+    }
+  }
+
+  @Benchmark
+  public ListBiddersResponse warmRequest() throws IOException {
+    return warmClient.bidders().list().execute();
+  }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding;
+
+import com.google.api.services.pubsub.Pubsub;
+import com.google.api.services.realtimebidding.v1.RealTimeBidding;
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.sourceforge.argparse4j.ArgumentParsers;
+import net.sourceforge.argparse4j.inf.ArgumentParser;
+import net.sourceforge.argparse4j.inf.ArgumentParserException;
+import net.sourceforge.argparse4j.inf.Namespace;
+
+/**
+ * Runs many sample commands in a single JVM, sharing the API clients created by {@link Utils}.
+ *
+ * <p>Commands are read one per line from a script file or from standard input. Each command is the
+ * name of a sample class relative to the {@code v1} package followed by its arguments, for example:
+ *
+ * <pre>
+ * bidders.creatives.ListCreatives -a 123 --view SERVING_DECISION_ONLY
+ * buyers.creatives.GetCreatives -a 456 -c "my creative"
+ * </pre>
+ *
+ * <p>Blank lines and lines starting with {@code #} are ignored. A command that fails is reported
+ * and the runner moves on to the next one; the process exits with a non-zero status at the end if
+ * any command failed.
+ */
+public class BatchRunner {
+
+  /** Package containing the sample classes that may be dispatched to. */
+  private static final String SAMPLES_PACKAGE =
+      "com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.";
+
+  /** Resolved samples, keyed by the command name used to refer to them. */
+  private final Map<String, Sample> samples = new HashMap<>();
+
+  /** Outcome of every command run so far. */
+  private final List<CommandResult> results = new ArrayList<>();
+
+  /** The {@code buildArgumentParser} and {@code execute} methods of a sample class. */
+  private static class Sample {
+    final Method buildArgumentParser;
+    final Method execute;
+
+    Sample(Method buildArgumentParser, Method execute) {
+      this.buildArgumentParser = buildArgumentParser;
+      this.execute = execute;
+    }
+  }
+
+  /** The outcome of a single command. */
+  private static class CommandResult {
+    final String command;
+    final boolean succeeded;
+    final long elapsedNanos;
+
+    CommandResult(String command, boolean succeeded, long elapsedNanos) {
+      this.command = command;
+      this.succeeded = succeeded;
+      this.elapsedNanos = elapsedNanos;
+    }
+  }
+
+  /**
+   * Splits a command line into arguments on whitespace. Single or double quotes may be used to
+   * include whitespace within an argument.
+   */
+  static List<String> tokenize(String line) {
+    List<String> tokens = new ArrayList<>();
+    StringBuilder current = new StringBuilder();
+    boolean inToken = false;
+    char quote = 0;
+
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+
+      if (quote != 0) {
+        if (c == quote) {
+          quote = 0;
+        } else {
+          current.append(c);
+        }
+      } else if (c == '"' || c == '\'') {
+        quote = c;
+        inToken = true;
+      } else if (Character.isWhitespace(c)) {
+        if (inToken) {
+          tokens.add(current.toString());
+          current.setLength(0);
+          inToken = false;
+        }
+      } else {
+        current.append(c);
+        inToken = true;
+      }
+    }
+
+    if (quote != 0) {
+      throw new IllegalArgumentException("Unterminated quote in command: " + line);
+    }
+    if (inToken) {
+      tokens.add(current.toString());
+    }
+
+    return tokens;
+  }
+
+  /** Resolves the sample for the given command name, caching the result. */
+  private Sample resolveSample(String commandName) throws ReflectiveOperationException {
+    Sample sample = samples.get(commandName);
+
+    if (sample == null) {
+      Class<?> sampleClass = Class.forName(SAMPLES_PACKAGE + commandName);
+      Method buildArgumentParser = sampleClass.getMethod("buildArgumentParser");
+      Method execute = null;
+
+      for (Method method : sampleClass.getMethods()) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if (method.getName().equals("execute")
+            && parameterTypes.length == 2
+            && parameterTypes[1] == Namespace.class) {
+          execute = method;
+          break;
+        }
+      }
+
+      if (execute == null) {
+        throw new NoSuchMethodException(commandName + ".execute(client, Namespace)");
+      }
+
+      sample = new Sample(buildArgumentParser, execute);
+      samples.put(commandName, sample);
+    }
+
+    return sample;
+  }
+
+  /** Retrieves the shared API client that matches the type expected by the sample. */
+  private static Object getClient(Class<?> clientType)
+      throws IOException, GeneralSecurityException {
+    if (clientType == RealTimeBidding.class) {
+      return Utils.getRealTimeBiddingClient();
+    } else if (clientType == Pubsub.class) {
+      return Utils.getPubsubClient();
+    }
+
+    throw new IllegalArgumentException("Unsupported client type: " + clientType.getName());
+  }
+
+  /**
+   * Runs a single command line, recording whether it succeeded and how long it took.
+   *
+   * @return {@code true} if the command succeeded.
+   */
+  public boolean run(String line) {
+    long startNanos = System.nanoTime();
+    boolean succeeded = false;
+
+    try {
+      List<String> tokens = tokenize(line);
+      String commandName = tokens.get(0);
+      String[] args = tokens.subList(1, tokens.size()).toArray(new String[0]);
+
+      Sample sample = resolveSample(commandName);
+      ArgumentParser parser = (ArgumentParser) sample.buildArgumentParser.invoke(null);
+
+      try {
+        Namespace parsedArgs = parser.parseArgs(args);
+        Object client = getClient(sample.execute.getParameterTypes()[0]);
+        sample.execute.invoke(null, client, parsedArgs);
+        succeeded = true;
+      } catch (ArgumentParserException ex) {
+        parser.handleError(ex);
+      }
+    } catch (InvocationTargetException ex) {
+      System.out.printf("Command failed:\n%s\n", ex.getCause());
+    } catch (ClassNotFoundException ex) {
+      System.out.printf("Unknown sample: %s\n", ex.getMessage());
+    } catch (IOException ex) {
+      System.out.printf("Unable to create API service:\n%s\n", ex);
+    } catch (GeneralSecurityException ex) {
+      System.out.printf("Unable to establish secure HttpTransport:\n%s\n", ex);
+    } catch (ReflectiveOperationException | RuntimeException ex) {
+      System.out.printf("Unable to run command:\n%s\n", ex);
+    }
+
+    long elapsedNanos = System.nanoTime() - startNanos;
+    results.add(new CommandResult(line, succeeded, elapsedNanos));
+    System.out.printf(
+        "[%s] %s (%.1f ms)\n", succeeded ? "OK" : "FAILED", line, elapsedNanos / 1e6);
+
+    return succeeded;
+  }
+
+  /**
+   * Runs every command read from the given stream.
+   *
+   * @return The number of commands that failed.
+   */
+  public int runAll(InputStream commands) throws IOException {
+    int failures = 0;
+
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(commands, StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        line = line.trim();
+        if (line.isEmpty() || line.startsWith("#")) {
+          continue;
+        }
+
+        if (!run(line)) {
+          failures++;
+        }
+      }
+    }
+
+    return failures;
+  }
+
+  /** Prints the timing of every command run so far, followed by totals. */
+  public void printSummary() {
+    long totalNanos = 0;
+    int failures = 0;
+
+    System.out.println("* Command timings:");
+    for (CommandResult result : results) {
+      System.out.printf(
+          "\t- %10.1f ms  %-6s  %s\n",
+          result.elapsedNanos / 1e6, result.succeeded ? "OK" : "FAILED", result.command);
+      totalNanos += result.elapsedNanos;
+      if (!result.succeeded) {
+        failures++;
+      }
+    }
+
+    System.out.printf(
+        "* Ran %d commands in %.1f ms; %d succeeded, %d failed.\n",
+        results.size(), totalNanos / 1e6, results.size() - failures, failures);
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser =
+        ArgumentParsers.newFor("BatchRunner")
+            .build()
+            .defaultHelp(true)
+            .description(
+                "Runs sample commands read from a script file or standard input in a single JVM.");
+    parser
+        .addArgument("-s", "--script")
+        .help(
+            "Path to a file containing one command per line, such as "
+                + "\"bidders.creatives.ListCreatives -a 123\". If not specified, commands are read "
+                + "from standard input.");
+
+    Namespace parsedArgs = null;
+    try {
+      parsedArgs = parser.parseArgs(args);
+    } catch (ArgumentParserException ex) {
+      parser.handleError(ex);
+      System.exit(1);
+    }
+
+    BatchRunner runner = new BatchRunner();
+    String script = parsedArgs.getString("script");
+    int failures = 0;
+
+    try (InputStream commands = script == null ? System.in : new FileInputStream(script)) {
+      failures = runner.runAll(commands);
+    } catch (IOException ex) {
+      System.out.printf("Unable to read commands:\n%s", ex);
+      System.exit(1);
+    }
+
+    runner.printSummary();
+    System.exit(failures == 0 ? 0 : 1);
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates over the items of a paginated list method while fetching the following pages on a
+ * background executor.
+ *
+ * <p>Because each page token is only known once the previous page has been returned, pages are
+ * still requested one after another. The benefit is that the requests overlap with the caller's
+ * processing of the items already received. At most {@code bufferedPages} pages are held in memory
+ * ahead of the caller, so a slow caller applies backpressure to the background fetches.
+ *
+ * <p>Errors raised while fetching a page are rethrown to the caller as an {@link
+ * UncheckedIOException} once the pages preceding it have been consumed.
+ *
+ * @param <T> The type of the items being listed.
+ */
+public class PrefetchingPageIterator<T> implements Iterator<T>, AutoCloseable {
+
+  /** Fetches a single page of a list method. */
+  public interface PageFetcher<T> {
+    /**
+     * Fetches the page with the given token.
+     *
+     * @param pageToken The token of the page to fetch, or {@code null} for the first page.
+     */
+    Page<T> fetch(String pageToken) throws IOException;
+  }
+
+  /** A single page of items along with the token for the page that follows it. */
+  public static class Page<T> {
+    private final List<T> items;
+    private final String nextPageToken;
+
+    public Page(List<T> items, String nextPageToken) {
+      this.items = items == null ? Collections.<T>emptyList() : items;
+      this.nextPageToken = nextPageToken;
+    }
+
+    public List<T> getItems() {
+      return items;
+    }
+
+    public String getNextPageToken() {
+      return nextPageToken;
+    }
+  }
+
+  /** Marks the end of the pages in the buffer. */
+  private static final Object END_OF_PAGES = new Object();
+
+  private final BlockingQueue<Object> buffer;
+  private final Future<?> producer;
+  private Iterator<T> currentPage = Collections.<T>emptyList().iterator();
+  private boolean finished;
+  private long pageCount;
+
+  /**
+   * Starts fetching pages in the background.
+   *
+   * @param fetcher Fetches individual pages.
+   * @param executor The executor on which pages are fetched. One task is submitted per iterator.
+   * @param bufferedPages The maximum number of fetched pages held ahead of the caller.
+   */
+  public PrefetchingPageIterator(
+      final PageFetcher<T> fetcher, ExecutorService executor, int bufferedPages) {
+    if (bufferedPages < 1) {
+      throw new IllegalArgumentException("bufferedPages must be at least 1.");
+    }
+
+    buffer = new ArrayBlockingQueue<>(bufferedPages);
+    producer =
+        executor.submit(
+            () -> {
+              try {
+                String pageToken = null;
+                do {
+                  Page<T> page = fetcher.fetch(pageToken);
+                  buffer.put(page);
+                  pageToken = page.getNextPageToken();
+                } while (pageToken != null && !pageToken.isEmpty());
+                buffer.put(END_OF_PAGES);
+              } catch (IOException ex) {
+                buffer.put(ex);
+              } catch (RuntimeException ex) {
+                buffer.put(ex);
+              }
+              return null;
+            });
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public boolean hasNext() {
+    while (!currentPage.hasNext()) {
+      if (finished) {
+        return false;
+      }
+
+      Object next;
+      try {
+        next = buffer.take();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        close();
+        throw new IllegalStateException("Interrupted while waiting for the next page.", ex);
+      }
+
+      if (next == END_OF_PAGES) {
+        finished = true;
+      } else if (next instanceof IOException) {
+        finished = true;
+        throw new UncheckedIOException((IOException) next);
+      } else if (next instanceof RuntimeException) {
+        finished = true;
+        throw (RuntimeException) next;
+      } else {
+        pageCount++;
+        currentPage = ((Page<T>) next).getItems().iterator();
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return currentPage.next();
+  }
+
+  /** Returns the number of pages handed to the caller so far. */
+  public long getPageCount() {
+    return pageCount;
+  }
+
+  /** Returns a sequential stream over the remaining items. */
+  public Stream<T> stream() {
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+        false);
+  }
+
+  /** Stops fetching pages in the background and discards any buffered pages. */
+  @Override
+  public void close() {
+    finished = true;
+    currentPage = Collections.<T>emptyList().iterator();
+    producer.cancel(true);
+    buffer.clear();
+  }
+}
@@ -14,9 +14,10 @@
 
 package com.google.api.services.samples.authorizedbuyers.realtimebidding;
 
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.googleapis.GoogleUtils;
 import com.google.api.client.http.HttpRequestInitializer;
 import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
 import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.jackson2.JacksonFactory;
 import com.google.api.services.pubsub.Pubsub;
@@ -29,10 +30,24 @@ import com.google.auth.oauth2.GoogleCredentials;
 import com.google.auth.oauth2.ServiceAccountCredentials;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.net.ProxySelector;
 import java.security.GeneralSecurityException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLContext;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.conn.SystemDefaultRoutePlanner;
+import org.apache.http.ssl.SSLContexts;
 import org.joda.time.LocalDate;
 import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
@@ -63,6 +78,45 @@ public class Utils {
    */
   private static final Integer MAXIMUM_PAGE_SIZE = 50;
 
+  /**
+   * Maximum number of pooled connections kept open to a single host. Can be overridden with the
+   * {@code rtb.http.maxConnectionsPerRoute} system property.
+   */
+  private static final int MAX_CONNECTIONS_PER_ROUTE =
+      Integer.getInteger("rtb.http.maxConnectionsPerRoute", 20);
+
+  /**
+   * Maximum number of pooled connections across all hosts. Can be overridden with the {@code
+   * rtb.http.maxConnectionsTotal} system property.
+   */
+  private static final int MAX_CONNECTIONS_TOTAL =
+      Integer.getInteger("rtb.http.maxConnectionsTotal", 40);
+
+  /**
+   * Number of seconds an idle connection is kept alive when the server doesn't specify a keep-alive
+   * timeout. Can be overridden with the {@code rtb.http.keepAliveSeconds} system property.
+   */
+  private static final int KEEP_ALIVE_SECONDS = Integer.getInteger("rtb.http.keepAliveSeconds", 60);
+
+  /**
+   * Number of seconds after which idle connections are evicted from the pool. Can be overridden with
+   * the {@code rtb.http.idleEvictionSeconds} system property.
+   */
+  private static final int IDLE_EVICTION_SECONDS =
+      Integer.getInteger("rtb.http.idleEvictionSeconds", 30);
+
+  /** Shared HTTP transport used by every API client created by the samples. */
+  private static HttpTransport httpTransport;
+
+  /** Shared request initializer that authorizes requests with the service account credentials. */
+  private static HttpRequestInitializer requestInitializer;
+
+  /** Shared Real-time Bidding API client. */
+  private static RealTimeBidding realTimeBiddingClient;
+
+  /** Shared Google Cloud Pubsub API client. */
+  private static Pubsub pubsubClient;
+
   /**
    * Authorizes the application to access the user's protected data.
    *
@@ -82,6 +136,18 @@ public class Utils {
     return credentials;
   }
 
+  /**
+   * Retrieves the request initializer shared by all API clients, loading the service account
+   * credentials the first time it is called.
+   */
+  private static synchronized HttpRequestInitializer getRequestInitializer() throws IOException {
+    if (requestInitializer == null) {
+      requestInitializer = new HttpCredentialsAdapter(authorize());
+    }
+
+    return requestInitializer;
+  }
+
   /** Helper method to produce an appropriate indent for the given indentLevel. */
   private static String getIndent(int indentLevel) {
     StringBuilder builder = new StringBuilder();
@@ -228,17 +294,94 @@ public class Utils {
 
   /**
    * Performs all necessary setup steps for running requests against the Google Cloud Pubsub API.
+   * The client is created on first use and shared by all subsequent callers.
    *
    * @return An initialized {@code Pubsub} service object.
    */
-  public static Pubsub getPubsubClient() throws IOException, GeneralSecurityException {
-    GoogleCredentials credentials = authorize();
-    HttpRequestInitializer requestInitializer = new HttpCredentialsAdapter(credentials);
-    HttpTransport httpTransport = GoogleNetHttpTransport.newTrustedTransport();
-
-    return new Pubsub.Builder(httpTransport, JSON_FACTORY, requestInitializer)
-        .setApplicationName(APPLICATION_NAME)
-        .build();
+  public static synchronized Pubsub getPubsubClient()
+      throws IOException, GeneralSecurityException {
+    if (pubsubClient == null) {
+      pubsubClient =
+          new Pubsub.Builder(getHttpTransport(), JSON_FACTORY, getRequestInitializer())
+              .setApplicationName(APPLICATION_NAME)
+              .build();
+    }
+
+    return pubsubClient;
+  }
+
+  /**
+   * Retrieves the HTTP transport shared by every API client in this process. The transport is
+   * created on first use, so the trusted certificate store is only loaded once and connections are
+   * reused across requests.
+   *
+   * @return The shared {@code HttpTransport} instance.
+   */
+  public static synchronized HttpTransport getHttpTransport()
+      throws IOException, GeneralSecurityException {
+    if (httpTransport == null) {
+      httpTransport =
+          newPooledHttpTransport(
+              MAX_CONNECTIONS_TOTAL,
+              MAX_CONNECTIONS_PER_ROUTE,
+              KEEP_ALIVE_SECONDS,
+              IDLE_EVICTION_SECONDS);
+    }
+
+    return httpTransport;
+  }
+
+  /**
+   * Creates an HTTP transport backed by a pool of persistent connections that trusts the same
+   * certificates as {@code GoogleNetHttpTransport}.
+   *
+   * @param maxConnectionsTotal The maximum number of open connections across all hosts.
+   * @param maxConnectionsPerRoute The maximum number of open connections to a single host.
+   * @param keepAliveSeconds How long an idle connection is kept alive if the server doesn't
+   *     specify a keep-alive timeout.
+   * @param idleEvictionSeconds How long a connection may sit idle in the pool before it is closed.
+   * @return A new {@code HttpTransport} instance.
+   */
+  public static HttpTransport newPooledHttpTransport(
+      int maxConnectionsTotal,
+      int maxConnectionsPerRoute,
+      int keepAliveSeconds,
+      int idleEvictionSeconds)
+      throws IOException, GeneralSecurityException {
+    SSLContext sslContext =
+        SSLContexts.custom().loadTrustMaterial(GoogleUtils.getCertificateTrustStore(), null).build();
+    Registry<ConnectionSocketFactory> socketFactoryRegistry =
+        RegistryBuilder.<ConnectionSocketFactory>create()
+            .register("http", PlainConnectionSocketFactory.getSocketFactory())
+            .register("https", new SSLConnectionSocketFactory(sslContext))
+            .build();
+
+    PoolingHttpClientConnectionManager connectionManager =
+        new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+    connectionManager.setMaxTotal(maxConnectionsTotal);
+    connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+    connectionManager.setValidateAfterInactivity(-1);
+
+    // Use the keep-alive timeout sent by the server, falling back to the configured default.
+    final long defaultKeepAliveMillis = TimeUnit.SECONDS.toMillis(keepAliveSeconds);
+    ConnectionKeepAliveStrategy keepAliveStrategy =
+        (response, context) -> {
+          long keepAliveMillis =
+              DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+          return keepAliveMillis > 0 ? keepAliveMillis : defaultKeepAliveMillis;
+        };
+
+    return new ApacheHttpTransport(
+        HttpClientBuilder.create()
+            .useSystemProperties()
+            .setConnectionManager(connectionManager)
+            .setKeepAliveStrategy(keepAliveStrategy)
+            .evictExpiredConnections()
+            .evictIdleConnections(idleEvictionSeconds, TimeUnit.SECONDS)
+            .setRoutePlanner(new SystemDefaultRoutePlanner(ProxySelector.getDefault()))
+            .disableRedirectHandling()
+            .disableAutomaticRetries()
+            .build());
   }
 
   /**
@@ -251,19 +394,21 @@ public class Utils {
   }
 
   /**
-   * Performs all necessary setup steps for running requests against the Real-time Bidding API.
+   * Performs all necessary setup steps for running requests against the Real-time Bidding API. The
+   * client is created on first use and shared by all subsequent callers.
    *
    * @return An initialized RealTimeBidding service object.
    */
-  public static RealTimeBidding getRealTimeBiddingClient()
+  public static synchronized RealTimeBidding getRealTimeBiddingClient()
       throws IOException, GeneralSecurityException {
-    GoogleCredentials credentials = authorize();
-    HttpRequestInitializer requestInitializer = new HttpCredentialsAdapter(credentials);
-    HttpTransport httpTransport = GoogleNetHttpTransport.newTrustedTransport();
+    if (realTimeBiddingClient == null) {
+      realTimeBiddingClient =
+          new RealTimeBidding.Builder(getHttpTransport(), JSON_FACTORY, getRequestInitializer())
+              .setApplicationName(APPLICATION_NAME)
+              .build();
+    }
 
-    return new RealTimeBidding.Builder(httpTransport, JSON_FACTORY, requestInitializer)
-        .setApplicationName(APPLICATION_NAME)
-        .build();
+    return realTimeBiddingClient;
   }
 
   /** Prints a {@code Bidder} instance in a human-readable format. */
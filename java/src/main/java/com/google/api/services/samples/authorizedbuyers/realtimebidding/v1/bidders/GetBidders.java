@@ -44,7 +44,7 @@ public class GetBidders {
     Utils.printBidder(bidder);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("GetBidders")
             .build()
@@ -58,6 +58,12 @@ public class GetBidders {
         .required(true)
         .type(Long.class);
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
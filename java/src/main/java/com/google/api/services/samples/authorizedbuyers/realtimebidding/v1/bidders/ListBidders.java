@@ -56,7 +56,7 @@ public class ListBidders {
     } while (pageToken != null);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("ListBidders")
             .build()
@@ -72,6 +72,12 @@ public class ListBidders {
         .setDefault(Utils.getMaximumPageSize())
         .type(Integer.class);
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.bidders.creatives;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The creative status carried by a single message published for a watched creative.
+ *
+ * <p>Instances are mutable so that a {@link CreativeStatusDecoder} can decode many messages into
+ * the same instance without allocating a new one for each.
+ */
+public class CreativeStatus {
+
+  private String messageId;
+  private String accountId;
+  private String creativeId;
+  private String lastStatusUpdate;
+  private String networkPolicyStatus;
+  private String platformPolicyStatus;
+  private String dealsPolicyStatus;
+  private String chinaPolicyStatus;
+  private String russiaPolicyStatus;
+  private final List<String> policyTopics = new ArrayList<>();
+
+  /** Clears every field so that the instance can be reused for another message. */
+  public void clear() {
+    messageId = null;
+    accountId = null;
+    creativeId = null;
+    lastStatusUpdate = null;
+    networkPolicyStatus = null;
+    platformPolicyStatus = null;
+    dealsPolicyStatus = null;
+    chinaPolicyStatus = null;
+    russiaPolicyStatus = null;
+    policyTopics.clear();
+  }
+
+  public String getMessageId() {
+    return messageId;
+  }
+
+  public void setMessageId(String messageId) {
+    this.messageId = messageId;
+  }
+
+  /** The buyer account ID that owns the creative. */
+  public String getAccountId() {
+    return accountId;
+  }
+
+  public void setAccountId(String accountId) {
+    this.accountId = accountId;
+  }
+
+  public String getCreativeId() {
+    return creativeId;
+  }
+
+  public void setCreativeId(String creativeId) {
+    this.creativeId = creativeId;
+  }
+
+  /** The time at which the creative's serving decision last changed. */
+  public String getLastStatusUpdate() {
+    return lastStatusUpdate;
+  }
+
+  public void setLastStatusUpdate(String lastStatusUpdate) {
+    this.lastStatusUpdate = lastStatusUpdate;
+  }
+
+  public String getNetworkPolicyStatus() {
+    return networkPolicyStatus;
+  }
+
+  public void setNetworkPolicyStatus(String networkPolicyStatus) {
+    this.networkPolicyStatus = networkPolicyStatus;
+  }
+
+  public String getPlatformPolicyStatus() {
+    return platformPolicyStatus;
+  }
+
+  public void setPlatformPolicyStatus(String platformPolicyStatus) {
+    this.platformPolicyStatus = platformPolicyStatus;
+  }
+
+  public String getDealsPolicyStatus() {
+    return dealsPolicyStatus;
+  }
+
+  public void setDealsPolicyStatus(String dealsPolicyStatus) {
+    this.dealsPolicyStatus = dealsPolicyStatus;
+  }
+
+  public String getChinaPolicyStatus() {
+    return chinaPolicyStatus;
+  }
+
+  public void setChinaPolicyStatus(String chinaPolicyStatus) {
+    this.chinaPolicyStatus = chinaPolicyStatus;
+  }
+
+  public String getRussiaPolicyStatus() {
+    return russiaPolicyStatus;
+  }
+
+  public void setRussiaPolicyStatus(String russiaPolicyStatus) {
+    this.russiaPolicyStatus = russiaPolicyStatus;
+  }
+
+  /** The policy topics cited by any of the creative's policy compliance statuses. */
+  public List<String> getPolicyTopics() {
+    return policyTopics;
+  }
+
+  /**
+   * Appends a single-line summary of the status to the given builder, omitting fields that aren't
+   * set.
+   */
+  public StringBuilder appendCompact(StringBuilder builder) {
+    builder.append("* ").append(accountId).append('/').append(creativeId);
+    appendField(builder, "network", networkPolicyStatus);
+    appendField(builder, "platform", platformPolicyStatus);
+    appendField(builder, "deals", dealsPolicyStatus);
+    appendField(builder, "china", chinaPolicyStatus);
+    appendField(builder, "russia", russiaPolicyStatus);
+    if (!policyTopics.isEmpty()) {
+      builder.append(" topics=").append(String.join(",", policyTopics));
+    }
+    appendField(builder, "lastStatusUpdate", lastStatusUpdate);
+    return builder.append('\n');
+  }
+
+  private static void appendField(StringBuilder builder, String name, String value) {
+    if (value != null) {
+      builder.append(' ').append(name).append('=').append(value);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return appendCompact(new StringBuilder()).toString();
+  }
+}
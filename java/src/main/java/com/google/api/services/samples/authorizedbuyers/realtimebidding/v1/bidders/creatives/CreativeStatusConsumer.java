@@ -0,0 +1,351 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.bidders.creatives;
+
+import com.google.api.services.pubsub.Pubsub;
+import com.google.api.services.pubsub.model.PullRequest;
+import com.google.api.services.pubsub.model.PullResponse;
+import com.google.api.services.pubsub.model.ReceivedMessage;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Continuously pulls creative status changes from a Google Cloud Pub/Sub subscription and hands
+ * them to a {@link MessageHandler}.
+ *
+ * <p>Several pull workers pull from the subscription at the same time and put the messages they
+ * receive on a bounded queue, from which a pool of handler threads takes them. When the handlers
+ * fall behind, the queue fills up and the pull workers wait instead of pulling messages that
+ * would sit unprocessed until their ack deadline expires. Each worker adapts its pull size to the
+ * backlog: it doubles the pull size after a full pull and halves it after a sparse one.
+ *
+ * <p>When acknowledging, messages are acknowledged asynchronously in batches by a {@link
+ * MessageAcknowledger} once they are handled successfully, and the ack deadline of messages that
+ * are waiting in the queue or being handled is extended until then. Messages whose handler throws
+ * are released for redelivery.
+ *
+ * <p>{@link #stop()} shuts the consumer down gracefully: pull workers finish their current pull
+ * and the handlers process every message already queued before exiting.
+ */
+public class CreativeStatusConsumer {
+
+  /** Processes a single message pulled from the subscription. */
+  public interface MessageHandler {
+    /**
+     * Handles a message. The message is acknowledged if this returns normally, and left to be
+     * redelivered if it throws.
+     */
+    void handle(ReceivedMessage message) throws Exception;
+  }
+
+  /** The smallest number of messages requested by a single pull. */
+  private static final int MINIMUM_PULL_SIZE = 1;
+
+  /** The longest time a pull worker waits before retrying after a failed pull. */
+  private static final long MAXIMUM_PULL_BACKOFF_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+  /** Marks the end of the queue for a handler thread. */
+  private static final ReceivedMessage END_OF_MESSAGES = new ReceivedMessage();
+
+  private final Pubsub client;
+  private final String subscriptionName;
+  private final MessageHandler handler;
+
+  private int pullWorkers = 1;
+  private int handlerThreads = 1;
+  private int maxMessages = 100;
+  private int queueCapacity = 1000;
+  private boolean acknowledge = true;
+  private int ackBatchSize = 1000;
+  private long ackDelayMillis = 100;
+  private int subscriptionAckDeadlineSeconds = 10;
+  private int ackExtensionSeconds = 60;
+
+  private final AtomicLong pulledCount = new AtomicLong();
+  private final AtomicLong processedCount = new AtomicLong();
+  private final AtomicLong failedCount = new AtomicLong();
+
+  private volatile boolean running;
+  private BlockingQueue<ReceivedMessage> queue;
+  private ExecutorService pullExecutor;
+  private ExecutorService handlerExecutor;
+  private CountDownLatch pullersDone;
+  private MessageAcknowledger acknowledger;
+
+  /**
+   * @param client The Pubsub API client.
+   * @param subscriptionName The subscription to pull from, in the form
+   *     "projects/{project}/subscriptions/{subscription}".
+   * @param handler Processes each pulled message.
+   */
+  public CreativeStatusConsumer(Pubsub client, String subscriptionName, MessageHandler handler) {
+    this.client = client;
+    this.subscriptionName = subscriptionName;
+    this.handler = handler;
+  }
+
+  /** Sets the number of pull requests that may be outstanding at the same time. */
+  public CreativeStatusConsumer setPullWorkers(int pullWorkers) {
+    this.pullWorkers = pullWorkers;
+    return this;
+  }
+
+  /** Sets the number of threads that run the message handler. */
+  public CreativeStatusConsumer setHandlerThreads(int handlerThreads) {
+    this.handlerThreads = handlerThreads;
+    return this;
+  }
+
+  /** Sets the largest number of messages requested by a single pull. */
+  public CreativeStatusConsumer setMaxMessages(int maxMessages) {
+    this.maxMessages = maxMessages;
+    return this;
+  }
+
+  /** Sets the number of pulled messages that may wait for a handler. */
+  public CreativeStatusConsumer setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+    return this;
+  }
+
+  /** Sets whether successfully handled messages are acknowledged. */
+  public CreativeStatusConsumer setAcknowledge(boolean acknowledge) {
+    this.acknowledge = acknowledge;
+    return this;
+  }
+
+  /** Sets the largest number of acknowledgements sent in a single request. */
+  public CreativeStatusConsumer setAckBatchSize(int ackBatchSize) {
+    this.ackBatchSize = ackBatchSize;
+    return this;
+  }
+
+  /** Sets the longest time an acknowledgement waits to be batched with others before being sent. */
+  public CreativeStatusConsumer setAckDelayMillis(long ackDelayMillis) {
+    this.ackDelayMillis = ackDelayMillis;
+    return this;
+  }
+
+  /**
+   * Sets the ack deadline configured on the subscription. The deadline of a pulled message is
+   * extended before this expires.
+   */
+  public CreativeStatusConsumer setSubscriptionAckDeadlineSeconds(
+      int subscriptionAckDeadlineSeconds) {
+    this.subscriptionAckDeadlineSeconds = subscriptionAckDeadlineSeconds;
+    return this;
+  }
+
+  /** Sets the ack deadline set each time the deadline of an unprocessed message is extended. */
+  public CreativeStatusConsumer setAckExtensionSeconds(int ackExtensionSeconds) {
+    this.ackExtensionSeconds = ackExtensionSeconds;
+    return this;
+  }
+
+  /** Starts the pull workers and handler threads. */
+  public synchronized void start() {
+    if (running) {
+      throw new IllegalStateException("The consumer has already been started.");
+    }
+
+    running = true;
+    queue = new ArrayBlockingQueue<>(queueCapacity);
+    pullersDone = new CountDownLatch(pullWorkers);
+    pullExecutor = Executors.newFixedThreadPool(pullWorkers);
+    handlerExecutor = Executors.newFixedThreadPool(handlerThreads);
+    if (acknowledge) {
+      acknowledger =
+          new MessageAcknowledger(
+              client,
+              subscriptionName,
+              ackBatchSize,
+              ackDelayMillis,
+              subscriptionAckDeadlineSeconds,
+              ackExtensionSeconds);
+    }
+
+    for (int i = 0; i < pullWorkers; i++) {
+      pullExecutor.execute(this::pullLoop);
+    }
+    for (int i = 0; i < handlerThreads; i++) {
+      handlerExecutor.execute(this::handleLoop);
+    }
+
+    // Once every pull worker has exited, tell each handler thread to stop after the queue drains.
+    Thread closer =
+        new Thread(
+            () -> {
+              try {
+                pullersDone.await();
+                for (int i = 0; i < handlerThreads; i++) {
+                  queue.put(END_OF_MESSAGES);
+                }
+              } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+              }
+            },
+            "CreativeStatusConsumer-closer");
+    closer.setDaemon(true);
+    closer.start();
+  }
+
+  /** Pulls messages and queues them for the handlers until the consumer is stopped. */
+  private void pullLoop() {
+    int pullSize = Math.min(10, maxMessages);
+    long backoffMillis = 500;
+
+    try {
+      while (running) {
+        // Don't pull more messages than there is room for in the queue.
+        int requestSize = Math.max(MINIMUM_PULL_SIZE, Math.min(pullSize, queue.remainingCapacity()));
+        List<ReceivedMessage> messages;
+
+        try {
+          PullRequest pullRequest =
+              new PullRequest().setMaxMessages(requestSize).setReturnImmediately(false);
+          PullResponse response =
+              client.projects().subscriptions().pull(subscriptionName, pullRequest).execute();
+          messages = response.getReceivedMessages();
+          backoffMillis = 500;
+        } catch (IOException ex) {
+          System.out.printf("Pull from '%s' failed, retrying:\n%s\n", subscriptionName, ex);
+          TimeUnit.MILLISECONDS.sleep(backoffMillis);
+          backoffMillis = Math.min(backoffMillis * 2, MAXIMUM_PULL_BACKOFF_MILLIS);
+          continue;
+        }
+
+        if (messages == null) {
+          messages = Collections.emptyList();
+        }
+
+        // Grow the pull size while pulls come back full, and shrink it while they come back sparse.
+        if (messages.size() >= requestSize) {
+          pullSize = Math.min(maxMessages, pullSize * 2);
+        } else if (messages.size() < pullSize / 2) {
+          pullSize = Math.max(MINIMUM_PULL_SIZE, Math.max(messages.size(), pullSize / 2));
+        }
+
+        for (ReceivedMessage message : messages) {
+          if (acknowledger != null) {
+            acknowledger.track(message.getAckId());
+          }
+          queue.put(message);
+        }
+        pulledCount.addAndGet(messages.size());
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } finally {
+      pullersDone.countDown();
+    }
+  }
+
+  /** Takes messages from the queue and handles them until told to stop. */
+  private void handleLoop() {
+    try {
+      while (true) {
+        ReceivedMessage message = queue.take();
+        if (message == END_OF_MESSAGES) {
+          return;
+        }
+
+        try {
+          handler.handle(message);
+        } catch (Exception ex) {
+          failedCount.incrementAndGet();
+          if (acknowledger != null) {
+            acknowledger.nack(message.getAckId());
+          }
+          System.out.printf(
+              "Handling message '%s' failed; it will be redelivered:\n%s\n",
+              message.getMessage().getMessageId(), ex);
+          continue;
+        }
+
+        if (acknowledger != null) {
+          acknowledger.acknowledge(message.getAckId());
+        }
+        processedCount.incrementAndGet();
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Stops pulling new messages. Messages that were already pulled are still handled; use {@link
+   * #awaitTermination} to wait for them.
+   */
+  public void stop() {
+    running = false;
+  }
+
+  /**
+   * Waits for the consumer to finish handling queued messages after {@link #stop()}, then sends
+   * any pending acknowledgements. Pull workers and handlers still running when the timeout expires
+   * are interrupted.
+   *
+   * @return {@code true} if the consumer terminated before the timeout.
+   */
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+
+    pullExecutor.shutdown();
+    handlerExecutor.shutdown();
+    boolean terminated =
+        pullExecutor.awaitTermination(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS)
+            && handlerExecutor.awaitTermination(
+                deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+    if (!terminated) {
+      pullExecutor.shutdownNow();
+      handlerExecutor.shutdownNow();
+    }
+    if (acknowledger != null) {
+      acknowledger.close();
+    }
+    return terminated;
+  }
+
+  /** Returns the number of messages pulled from the subscription. */
+  public long getPulledCount() {
+    return pulledCount.get();
+  }
+
+  /** Returns the number of messages handled successfully. */
+  public long getProcessedCount() {
+    return processedCount.get();
+  }
+
+  /** Returns the number of messages whose handler threw an exception. */
+  public long getFailedCount() {
+    return failedCount.get();
+  }
+
+  /** Returns the acknowledger, or {@code null} if messages aren't acknowledged. */
+  public MessageAcknowledger getAcknowledger() {
+    return acknowledger;
+  }
+}
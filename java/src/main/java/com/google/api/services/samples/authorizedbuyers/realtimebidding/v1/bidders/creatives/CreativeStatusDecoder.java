@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.bidders.creatives;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.api.services.pubsub.model.PubsubMessage;
+import com.google.api.services.pubsub.model.ReceivedMessage;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Decodes the payload of creative status messages straight into a {@link CreativeStatus}.
+ *
+ * <p>The base64-encoded payload is decoded into a buffer that is reused across messages and parsed
+ * in place by a streaming JSON parser, without first building a {@code String} or a JSON tree.
+ * Fields that aren't part of {@link CreativeStatus} are skipped.
+ *
+ * <p>A decoder is not thread-safe; use one per thread.
+ */
+public class CreativeStatusDecoder {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  /** Maps base64 characters of both the standard and URL-safe alphabets to their values. */
+  private static final byte[] BASE64_VALUES = new byte[128];
+
+  /** Status values that are returned as shared constants rather than newly allocated strings. */
+  private static final String[] KNOWN_STATUSES = {
+    "APPROVED", "DISAPPROVED", "PENDING_REVIEW", "CERTIFICATE_REQUIRED", "STATUS_UNSPECIFIED"
+  };
+
+  static {
+    Arrays.fill(BASE64_VALUES, (byte) -1);
+    String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    for (int i = 0; i < alphabet.length(); i++) {
+      BASE64_VALUES[alphabet.charAt(i)] = (byte) i;
+    }
+    BASE64_VALUES['+'] = 62;
+    BASE64_VALUES['-'] = 62;
+    BASE64_VALUES['/'] = 63;
+    BASE64_VALUES['_'] = 63;
+  }
+
+  private byte[] buffer = new byte[4096];
+
+  /**
+   * Decodes a received message into the given status, replacing its previous contents.
+   *
+   * @param receivedMessage The message pulled from the subscription.
+   * @param status The status to decode into.
+   * @return The given status.
+   * @throws IOException if the payload isn't valid JSON.
+   */
+  public CreativeStatus decode(ReceivedMessage receivedMessage, CreativeStatus status)
+      throws IOException {
+    PubsubMessage message = receivedMessage.getMessage();
+    status.clear();
+    status.setMessageId(message.getMessageId());
+
+    String data = message.getData();
+    if (data != null) {
+      int length = decodeBase64(data);
+      try (JsonParser parser = JSON_FACTORY.createParser(buffer, 0, length)) {
+        if (parser.nextToken() == JsonToken.START_OBJECT) {
+          parseMessage(parser, status);
+        }
+      }
+    }
+
+    // The attributes identify the creative even when the payload doesn't.
+    Map<String, String> attributes = message.getAttributes();
+    if (attributes != null) {
+      if (attributes.containsKey("accountId")) {
+        status.setAccountId(attributes.get("accountId"));
+      }
+      if (attributes.containsKey("creativeId")) {
+        status.setCreativeId(attributes.get("creativeId"));
+      }
+    }
+
+    return status;
+  }
+
+  /**
+   * Parses the top-level object of the payload. The serving decision's fields are accepted both
+   * nested under {@code creativeServingDecision} and at the top level.
+   */
+  private static void parseMessage(JsonParser parser, CreativeStatus status) throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+
+      if ("creativeServingDecision".equals(field) && value == JsonToken.START_OBJECT) {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String decisionField = parser.getCurrentName();
+          parseServingDecisionField(parser, decisionField, parser.nextToken(), status);
+        }
+      } else if ("accountId".equals(field) && value.isScalarValue()) {
+        status.setAccountId(parser.getText());
+      } else if ("creativeId".equals(field) && value.isScalarValue()) {
+        status.setCreativeId(parser.getText());
+      } else {
+        parseServingDecisionField(parser, field, value, status);
+      }
+    }
+  }
+
+  private static void parseServingDecisionField(
+      JsonParser parser, String field, JsonToken value, CreativeStatus status) throws IOException {
+    if (value == JsonToken.START_OBJECT) {
+      switch (field) {
+        case "networkPolicyCompliance":
+          status.setNetworkPolicyStatus(parsePolicyCompliance(parser, status));
+          return;
+        case "platformPolicyCompliance":
+          status.setPlatformPolicyStatus(parsePolicyCompliance(parser, status));
+          return;
+        case "dealsPolicyCompliance":
+          status.setDealsPolicyStatus(parsePolicyCompliance(parser, status));
+          return;
+        case "chinaPolicyCompliance":
+          status.setChinaPolicyStatus(parsePolicyCompliance(parser, status));
+          return;
+        case "russiaPolicyCompliance":
+          status.setRussiaPolicyStatus(parsePolicyCompliance(parser, status));
+          return;
+        default:
+          break;
+      }
+    } else if ("lastStatusUpdate".equals(field) && value == JsonToken.VALUE_STRING) {
+      status.setLastStatusUpdate(parser.getText());
+      return;
+    }
+
+    parser.skipChildren();
+  }
+
+  /** Parses a PolicyCompliance object, adding its topics to the status and returning its status. */
+  private static String parsePolicyCompliance(JsonParser parser, CreativeStatus status)
+      throws IOException {
+    String complianceStatus = null;
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+
+      if ("status".equals(field) && value == JsonToken.VALUE_STRING) {
+        complianceStatus = readStatus(parser);
+      } else if ("topics".equals(field) && value == JsonToken.START_ARRAY) {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String topicField = parser.getCurrentName();
+            JsonToken topicValue = parser.nextToken();
+            if ("policyTopic".equals(topicField) && topicValue == JsonToken.VALUE_STRING) {
+              status.getPolicyTopics().add(parser.getText());
+            } else {
+              parser.skipChildren();
+            }
+          }
+        }
+      } else {
+        parser.skipChildren();
+      }
+    }
+
+    return complianceStatus;
+  }
+
+  /** Reads a status value, returning a shared constant for known values to avoid allocating. */
+  private static String readStatus(JsonParser parser) throws IOException {
+    char[] text = parser.getTextCharacters();
+    int offset = parser.getTextOffset();
+    int length = parser.getTextLength();
+
+    for (String known : KNOWN_STATUSES) {
+      if (known.length() == length && regionMatches(known, text, offset)) {
+        return known;
+      }
+    }
+    return new String(text, offset, length);
+  }
+
+  private static boolean regionMatches(String expected, char[] text, int offset) {
+    for (int i = 0; i < expected.length(); i++) {
+      if (expected.charAt(i) != text[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Decodes base64 text of either alphabet into the reusable buffer, growing it if needed. Padding
+   * and characters outside the alphabet are ignored.
+   *
+   * @return The number of decoded bytes.
+   */
+  private int decodeBase64(String data) {
+    int maximumLength = data.length() / 4 * 3 + 3;
+    if (buffer.length < maximumLength) {
+      buffer = new byte[Math.max(maximumLength, buffer.length * 2)];
+    }
+
+    int length = 0;
+    int bits = 0;
+    int bitCount = 0;
+    for (int i = 0; i < data.length(); i++) {
+      char c = data.charAt(i);
+      int value = c < BASE64_VALUES.length ? BASE64_VALUES[c] : -1;
+      if (value < 0) {
+        continue;
+      }
+
+      bits = (bits << 6) | value;
+      bitCount += 6;
+      if (bitCount >= 8) {
+        bitCount -= 8;
+        buffer[length++] = (byte) (bits >> bitCount);
+      }
+    }
+    return length;
+  }
+}
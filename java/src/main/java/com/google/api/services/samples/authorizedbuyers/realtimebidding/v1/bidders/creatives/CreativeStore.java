@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.bidders.creatives;
+
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.jackson2.JacksonFactory;
+import com.google.api.services.realtimebidding.v1.model.Creative;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A local copy of creatives persisted to a file with one JSON-encoded {@code Creative} per line,
+ * keyed by creative name.
+ *
+ * <p>The whole store is held in memory while open. Changes are only written to disk by {@link
+ * #save()}, which replaces the file atomically so that an interrupted save leaves the previous
+ * contents intact.
+ */
+public class CreativeStore {
+
+  private static final JsonFactory JSON_FACTORY = JacksonFactory.getDefaultInstance();
+
+  private final Path path;
+  private final Map<String, Creative> creatives = new LinkedHashMap<>();
+
+  private CreativeStore(Path path) {
+    this.path = path;
+  }
+
+  /**
+   * Opens the store at the given path, loading its contents if the file exists.
+   *
+   * @param path The file backing the store.
+   * @return The opened store, which is empty if the file doesn't exist yet.
+   */
+  public static CreativeStore open(Path path) throws IOException {
+    CreativeStore store = new CreativeStore(path);
+
+    if (Files.exists(path)) {
+      try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          if (!line.isEmpty()) {
+            store.put(JSON_FACTORY.fromString(line, Creative.class));
+          }
+        }
+      }
+    }
+
+    return store;
+  }
+
+  /** Returns the stored creative with the given name, or {@code null} if it isn't stored. */
+  public Creative get(String name) {
+    return creatives.get(name);
+  }
+
+  /**
+   * Returns the version of the stored creative with the given name, or {@code null} if it isn't
+   * stored or has no version.
+   */
+  public Integer getVersion(String name) {
+    Creative creative = creatives.get(name);
+    return creative == null ? null : creative.getVersion();
+  }
+
+  /** Returns every stored creative in the order it was first stored. */
+  public Collection<Creative> getAll() {
+    return Collections.unmodifiableCollection(creatives.values());
+  }
+
+  /** Returns the names of every stored creative. */
+  public Collection<String> getNames() {
+    return Collections.unmodifiableCollection(creatives.keySet());
+  }
+
+  /** Returns the number of stored creatives. */
+  public int size() {
+    return creatives.size();
+  }
+
+  /** Stores a creative, replacing any stored creative with the same name. */
+  public void put(Creative creative) {
+    creatives.put(creative.getName(), creative);
+  }
+
+  /** Removes the creative with the given name, returning it if it was stored. */
+  public Creative remove(String name) {
+    return creatives.remove(name);
+  }
+
+  /** Writes the contents of the store to its file. */
+  public void save() throws IOException {
+    Path parent = path.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+
+    Path tempFile = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+    try {
+      try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+        for (Creative creative : creatives.values()) {
+          writer.write(JSON_FACTORY.toString(creative));
+          writer.newLine();
+        }
+      }
+      Files.move(
+          tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+}
@@ -19,10 +19,15 @@ package com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.bidd
 import com.google.api.services.realtimebidding.v1.RealTimeBidding;
 import com.google.api.services.realtimebidding.v1.model.Creative;
 import com.google.api.services.realtimebidding.v1.model.ListCreativesResponse;
+import com.google.api.services.samples.authorizedbuyers.realtimebidding.PrefetchingPageIterator;
 import com.google.api.services.samples.authorizedbuyers.realtimebidding.Utils;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.security.GeneralSecurityException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import net.sourceforge.argparse4j.ArgumentParsers;
 import net.sourceforge.argparse4j.inf.ArgumentParser;
 import net.sourceforge.argparse4j.inf.ArgumentParserException;
@@ -36,6 +41,106 @@ import net.sourceforge.argparse4j.inf.Namespace;
  */
 public class ListCreatives {
 
+  /**
+   * Creates an iterator over the creatives of the given bidder that fetches pages ahead of the
+   * caller on the given executor.
+   *
+   * @param client The Real-time Bidding API client.
+   * @param parentBidderName The name of the bidder, in the form "bidders/{accountId}".
+   * @param filter Query string to filter creatives, or {@code null}.
+   * @param view The view of the creatives to return.
+   * @param pageSize The number of creatives requested per page.
+   * @param executor The executor on which pages are fetched.
+   * @param bufferedPages The maximum number of pages fetched ahead of the caller.
+   */
+  public static PrefetchingPageIterator<Creative> newPrefetchingIterator(
+      final RealTimeBidding client,
+      final String parentBidderName,
+      final String filter,
+      final String view,
+      final Integer pageSize,
+      ExecutorService executor,
+      int bufferedPages) {
+    return new PrefetchingPageIterator<>(
+        pageToken -> {
+          ListCreativesResponse response =
+              client
+                  .bidders()
+                  .creatives()
+                  .list(parentBidderName)
+                  .setFilter(filter)
+                  .setView(view)
+                  .setPageSize(pageSize)
+                  .setPageToken(pageToken)
+                  .execute();
+          return new PrefetchingPageIterator.Page<>(
+              response.getCreatives(), response.getNextPageToken());
+        },
+        executor,
+        bufferedPages);
+  }
+
+  /** Lists creatives while the following pages are fetched on a background thread. */
+  private static void executeWithPrefetching(
+      RealTimeBidding client, Namespace parsedArgs, String parentBidderName) throws IOException {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    long creativeCount = 0;
+
+    try (PrefetchingPageIterator<Creative> creatives =
+        newPrefetchingIterator(
+            client,
+            parentBidderName,
+            parsedArgs.getString("filter"),
+            parsedArgs.getString("view"),
+            parsedArgs.getInt("page_size"),
+            executor,
+            parsedArgs.getInt("prefetch_pages"))) {
+      while (creatives.hasNext()) {
+        Utils.printCreative(creatives.next());
+        creativeCount++;
+      }
+    } catch (UncheckedIOException ex) {
+      throw ex.getCause();
+    } finally {
+      executor.shutdownNow();
+    }
+
+    if (creativeCount == 0) {
+      System.out.println("No creatives found.");
+    }
+  }
+
+  /** Exports creatives by listing disjoint filter shards concurrently. */
+  private static void executeSharded(
+      RealTimeBidding client, Namespace parsedArgs, String parentBidderName) throws IOException {
+    ShardedCreativeExporter.ShardField shardField =
+        ShardedCreativeExporter.ShardField.valueOf(parsedArgs.getString("shard_by").toUpperCase());
+    List<String> shardFilters =
+        ShardedCreativeExporter.buildShardFilters(
+            parsedArgs.getString("filter"), shardField, parsedArgs.<String>getList("shard_values"));
+
+    ShardedCreativeExporter exporter =
+        new ShardedCreativeExporter(
+            client,
+            parentBidderName,
+            parsedArgs.getString("view"),
+            parsedArgs.getInt("page_size"),
+            parsedArgs.getInt("shard_threads"));
+
+    long creativeCount = exporter.export(shardFilters, Utils::printCreative);
+
+    if (creativeCount == 0) {
+      System.out.println("No creatives found.");
+    }
+
+    System.out.printf(
+        "Exported %d unique creatives from %d shards; %d duplicates were skipped.\n",
+        creativeCount, shardFilters.size(), exporter.getDuplicateCount());
+    for (Map.Entry<String, Long> shard : exporter.getCreativesPerShard().entrySet()) {
+      System.out.printf("\t- %d creatives for filter: %s\n", shard.getValue(), shard.getKey());
+    }
+  }
+
   public static void execute(RealTimeBidding client, Namespace parsedArgs) throws IOException {
     Long accountId = parsedArgs.getLong("account_id");
     Integer pageSize = parsedArgs.getInt("page_size");
@@ -44,6 +149,16 @@ public class ListCreatives {
 
     System.out.printf("Found Creatives for bidder Account ID '%d':\n", accountId);
 
+    if (parsedArgs.getString("shard_by") != null) {
+      executeSharded(client, parsedArgs, parentBuyerName);
+      return;
+    }
+
+    if (parsedArgs.getInt("prefetch_pages") > 0) {
+      executeWithPrefetching(client, parsedArgs, parentBuyerName);
+      return;
+    }
+
     do {
       List<Creative> creatives = null;
 
@@ -71,7 +186,7 @@ public class ListCreatives {
     } while (pageToken != null);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("ListCreatives")
             .build()
@@ -111,6 +226,39 @@ public class ListCreatives {
                 + " this to 'FULL'.")
         .choices("FULL", "SERVING_DECISION_ONLY")
         .setDefault("FULL");
+    parser
+        .addArgument("--prefetch_pages")
+        .help(
+            "The number of pages to fetch in the background ahead of the page currently being"
+                + " printed. Set to 0 to fetch each page only after the previous one has been"
+                + " printed.")
+        .type(Integer.class)
+        .setDefault(0);
+    parser
+        .addArgument("--shard_by")
+        .help(
+            "Export creatives by splitting them into disjoint shards on the given field, listing"
+                + " the shards concurrently and merging them into a single deduplicated output."
+                + " Each shard's filter is combined with the --filter argument.")
+        .choices("creative_format", "serving_status", "account_id");
+    parser
+        .addArgument("--shard_values")
+        .help(
+            "The values of the --shard_by field, one per shard. Specify each value separated by a"
+                + " space. Defaults to every creative format or network policy compliance status;"
+                + " buyer account IDs must always be specified.")
+        .nargs("*");
+    parser
+        .addArgument("--shard_threads")
+        .help("The maximum number of shards listed at the same time.")
+        .type(Integer.class)
+        .setDefault(4);
+
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
 
     Namespace parsedArgs = null;
     try {
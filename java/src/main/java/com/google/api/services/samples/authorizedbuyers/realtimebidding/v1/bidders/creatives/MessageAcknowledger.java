@@ -0,0 +1,296 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.bidders.creatives;
+
+import com.google.api.services.pubsub.Pubsub;
+import com.google.api.services.pubsub.model.AcknowledgeRequest;
+import com.google.api.services.pubsub.model.ModifyAckDeadlineRequest;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Acknowledges Pub/Sub messages asynchronously in batches, and extends the ack deadline of
+ * messages that are still being processed.
+ *
+ * <p>Messages are registered with {@link #track} when they are pulled. Once processed, each is
+ * either passed to {@link #acknowledge} or to {@link #nack}. Acknowledgements are coalesced and
+ * sent in a single request once {@code maxBatchSize} are pending or the oldest has waited {@code
+ * maxDelayMillis}, whichever comes first. Messages that are still being processed when their ack
+ * deadline is about to expire have it extended, so that slow handlers don't cause the messages to
+ * be redelivered while they are working on them.
+ */
+public class MessageAcknowledger implements AutoCloseable {
+
+  /** The largest number of ack IDs sent in a single acknowledge or modifyAckDeadline request. */
+  public static final int MAXIMUM_BATCH_SIZE = 2500;
+
+  /** How often the deadlines of tracked messages are checked. */
+  private static final long LEASE_CHECK_INTERVAL_MILLIS = 1000;
+
+  private final Pubsub client;
+  private final String subscriptionName;
+  private final int maxBatchSize;
+  private final long maxDelayMillis;
+  private final int subscriptionAckDeadlineSeconds;
+  private final int extendedAckDeadlineSeconds;
+
+  /** Ack IDs of tracked messages, mapped to the time at which their deadline expires. */
+  private final Map<String, Long> leaseExpiryNanos = new ConcurrentHashMap<>();
+
+  private final ScheduledExecutorService scheduler;
+  private final Object pendingLock = new Object();
+  private List<String> pendingAckIds = new ArrayList<>();
+  private long oldestPendingNanos;
+  private boolean closed;
+
+  private final AtomicLong acknowledgedCount = new AtomicLong();
+  private final AtomicLong acknowledgeRequestCount = new AtomicLong();
+  private final AtomicLong failedAcknowledgeCount = new AtomicLong();
+  private final AtomicLong extendedCount = new AtomicLong();
+  private final AtomicLong nackedCount = new AtomicLong();
+
+  /**
+   * @param client The Pubsub API client.
+   * @param subscriptionName The subscription the messages were pulled from.
+   * @param maxBatchSize The number of pending acknowledgements that triggers a request.
+   * @param maxDelayMillis The longest time an acknowledgement waits before being sent.
+   * @param subscriptionAckDeadlineSeconds The ack deadline configured on the subscription, which
+   *     applies to messages until their deadline is first extended.
+   * @param extendedAckDeadlineSeconds The deadline set each time a message's deadline is extended.
+   */
+  public MessageAcknowledger(
+      Pubsub client,
+      String subscriptionName,
+      int maxBatchSize,
+      long maxDelayMillis,
+      int subscriptionAckDeadlineSeconds,
+      int extendedAckDeadlineSeconds) {
+    if (maxBatchSize < 1 || maxBatchSize > MAXIMUM_BATCH_SIZE) {
+      throw new IllegalArgumentException(
+          String.format("maxBatchSize must be between 1 and %d.", MAXIMUM_BATCH_SIZE));
+    }
+
+    this.client = client;
+    this.subscriptionName = subscriptionName;
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelayMillis = maxDelayMillis;
+    this.subscriptionAckDeadlineSeconds = subscriptionAckDeadlineSeconds;
+    this.extendedAckDeadlineSeconds = extendedAckDeadlineSeconds;
+
+    scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "MessageAcknowledger");
+              thread.setDaemon(true);
+              return thread;
+            });
+    scheduler.scheduleWithFixedDelay(
+        this::flushIfDue, maxDelayMillis, Math.max(1, maxDelayMillis / 2), TimeUnit.MILLISECONDS);
+    scheduler.scheduleWithFixedDelay(
+        this::extendExpiringLeases,
+        LEASE_CHECK_INTERVAL_MILLIS,
+        LEASE_CHECK_INTERVAL_MILLIS,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /** Starts extending the ack deadline of a message that has just been pulled. */
+  public void track(String ackId) {
+    leaseExpiryNanos.put(
+        ackId, System.nanoTime() + TimeUnit.SECONDS.toNanos(subscriptionAckDeadlineSeconds));
+  }
+
+  /** Queues a processed message to be acknowledged in the next batch. */
+  public void acknowledge(String ackId) {
+    leaseExpiryNanos.remove(ackId);
+
+    List<String> batch = null;
+    synchronized (pendingLock) {
+      if (closed) {
+        throw new IllegalStateException("The acknowledger has been closed.");
+      }
+      if (pendingAckIds.isEmpty()) {
+        oldestPendingNanos = System.nanoTime();
+      }
+      pendingAckIds.add(ackId);
+      if (pendingAckIds.size() >= maxBatchSize) {
+        batch = takePending();
+      }
+    }
+
+    if (batch != null) {
+      final List<String> fullBatch = batch;
+      scheduler.execute(() -> sendAcknowledgements(fullBatch));
+    }
+  }
+
+  /**
+   * Stops extending the ack deadline of a message that failed to be processed, and makes it
+   * available for redelivery immediately rather than once its deadline expires.
+   */
+  public void nack(String ackId) {
+    leaseExpiryNanos.remove(ackId);
+    nackedCount.incrementAndGet();
+
+    final List<String> ackIds = new ArrayList<>(1);
+    ackIds.add(ackId);
+    scheduler.execute(() -> modifyAckDeadline(ackIds, 0));
+  }
+
+  /** Removes and returns the pending ack IDs. Must be called while holding {@code pendingLock}. */
+  private List<String> takePending() {
+    List<String> batch = pendingAckIds;
+    pendingAckIds = new ArrayList<>();
+    return batch;
+  }
+
+  /** Sends the pending acknowledgements if the oldest has waited long enough. */
+  private void flushIfDue() {
+    List<String> batch;
+    synchronized (pendingLock) {
+      long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldestPendingNanos);
+      if (pendingAckIds.isEmpty() || waitedMillis < maxDelayMillis) {
+        return;
+      }
+      batch = takePending();
+    }
+    sendAcknowledgements(batch);
+  }
+
+  private void sendAcknowledgements(List<String> ackIds) {
+    AcknowledgeRequest acknowledgeRequest = new AcknowledgeRequest().setAckIds(ackIds);
+    acknowledgeRequestCount.incrementAndGet();
+
+    try {
+      client.projects().subscriptions().acknowledge(subscriptionName, acknowledgeRequest).execute();
+      acknowledgedCount.addAndGet(ackIds.size());
+    } catch (IOException ex) {
+      // The messages will be redelivered once their deadline expires.
+      failedAcknowledgeCount.addAndGet(ackIds.size());
+      System.out.printf("Acknowledging %d messages failed:\n%s\n", ackIds.size(), ex);
+    }
+  }
+
+  /** Extends the deadline of every tracked message whose deadline is about to expire. */
+  private void extendExpiringLeases() {
+    // Extend leases that would expire before the next check, with a check interval to spare.
+    long nowNanos = System.nanoTime();
+    long thresholdNanos = nowNanos + TimeUnit.MILLISECONDS.toNanos(LEASE_CHECK_INTERVAL_MILLIS * 2);
+    long newExpiryNanos = nowNanos + TimeUnit.SECONDS.toNanos(extendedAckDeadlineSeconds);
+
+    List<String> expiring = new ArrayList<>();
+    for (Map.Entry<String, Long> lease : leaseExpiryNanos.entrySet()) {
+      if (lease.getValue() - thresholdNanos <= 0) {
+        expiring.add(lease.getKey());
+      }
+    }
+
+    for (int start = 0; start < expiring.size(); start += MAXIMUM_BATCH_SIZE) {
+      List<String> chunk =
+          expiring.subList(start, Math.min(expiring.size(), start + MAXIMUM_BATCH_SIZE));
+      if (modifyAckDeadline(chunk, extendedAckDeadlineSeconds)) {
+        for (String ackId : chunk) {
+          // Only update leases that weren't acknowledged while the request was in flight.
+          leaseExpiryNanos.replace(ackId, newExpiryNanos);
+        }
+        extendedCount.addAndGet(chunk.size());
+      }
+    }
+  }
+
+  private boolean modifyAckDeadline(List<String> ackIds, int ackDeadlineSeconds) {
+    ModifyAckDeadlineRequest modifyAckDeadlineRequest =
+        new ModifyAckDeadlineRequest()
+            .setAckIds(new ArrayList<>(ackIds))
+            .setAckDeadlineSeconds(ackDeadlineSeconds);
+
+    try {
+      client
+          .projects()
+          .subscriptions()
+          .modifyAckDeadline(subscriptionName, modifyAckDeadlineRequest)
+          .execute();
+      return true;
+    } catch (IOException ex) {
+      System.out.printf(
+          "Setting the ack deadline of %d messages to %d seconds failed:\n%s\n",
+          ackIds.size(), ackDeadlineSeconds, ex);
+      return false;
+    }
+  }
+
+  /**
+   * Sends any pending acknowledgements and waits for outstanding requests to complete. Messages
+   * that are still tracked are no longer extended.
+   */
+  @Override
+  public void close() {
+    List<String> batch;
+    synchronized (pendingLock) {
+      closed = true;
+      batch = takePending();
+    }
+
+    leaseExpiryNanos.clear();
+    if (!batch.isEmpty()) {
+      final List<String> finalBatch = batch;
+      scheduler.execute(() -> sendAcknowledgements(finalBatch));
+    }
+
+    scheduler.shutdown();
+    try {
+      if (!scheduler.awaitTermination(30, TimeUnit.SECONDS)) {
+        System.out.println("Timed out waiting for acknowledgements to be sent.");
+        scheduler.shutdownNow();
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      scheduler.shutdownNow();
+    }
+  }
+
+  /** Returns the number of messages acknowledged successfully. */
+  public long getAcknowledgedCount() {
+    return acknowledgedCount.get();
+  }
+
+  /** Returns the number of acknowledge requests sent. */
+  public long getAcknowledgeRequestCount() {
+    return acknowledgeRequestCount.get();
+  }
+
+  /** Returns the number of messages whose acknowledge request failed. */
+  public long getFailedAcknowledgeCount() {
+    return failedAcknowledgeCount.get();
+  }
+
+  /** Returns the number of times a message's ack deadline was extended. */
+  public long getExtendedCount() {
+    return extendedCount.get();
+  }
+
+  /** Returns the number of messages released for redelivery after failing to be processed. */
+  public long getNackedCount() {
+    return nackedCount.get();
+  }
+}
@@ -19,11 +19,11 @@ package com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.bidd
 import static net.sourceforge.argparse4j.impl.Arguments.storeTrue;
 
 import com.google.api.services.pubsub.Pubsub;
-import com.google.api.services.pubsub.model.AcknowledgeRequest;
 import com.google.api.services.pubsub.model.PubsubMessage;
 import com.google.api.services.pubsub.model.PullRequest;
 import com.google.api.services.pubsub.model.PullResponse;
 import com.google.api.services.pubsub.model.ReceivedMessage;
+import com.google.api.services.pubsub.model.Subscription;
 import com.google.api.services.samples.authorizedbuyers.realtimebidding.Utils;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -31,9 +31,10 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 import java.io.IOException;
 import java.security.GeneralSecurityException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import net.sourceforge.argparse4j.ArgumentParsers;
 import net.sourceforge.argparse4j.inf.ArgumentParser;
 import net.sourceforge.argparse4j.inf.ArgumentParserException;
@@ -52,7 +53,171 @@ import net.sourceforge.argparse4j.inf.Namespace;
  */
 public class PullWatchedCreativesSubscription {
 
+  /** The longest time to wait for queued messages to be handled when shutting down. */
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+  private static final Gson PRETTY_GSON = new GsonBuilder().setPrettyPrinting().create();
+
+  private static final ThreadLocal<CreativeStatusDecoder> COMPACT_DECODER =
+      ThreadLocal.withInitial(CreativeStatusDecoder::new);
+  private static final ThreadLocal<CreativeStatus> COMPACT_STATUS =
+      ThreadLocal.withInitial(CreativeStatus::new);
+  private static final ThreadLocal<StringBuilder> COMPACT_BUILDER =
+      ThreadLocal.withInitial(StringBuilder::new);
+
+  /** The ack deadline used by Pub/Sub when a subscription doesn't specify one. */
+  private static final int DEFAULT_ACK_DEADLINE_SECONDS = 10;
+
+  /**
+   * Formats a creative status message for printing. The message is formatted as a single string so
+   * that messages printed by concurrent handlers don't interleave.
+   */
+  private static String formatMessage(ReceivedMessage receivedMessage) {
+    PubsubMessage message = receivedMessage.getMessage();
+    Map<String, String> messageAttributes = message.getAttributes();
+    String accountId = messageAttributes.get("accountId");
+    String creativeId = messageAttributes.get("creativeId");
+
+    String decodedData = new String(message.decodeData());
+    JsonElement jsonElement = JsonParser.parseString(decodedData);
+
+    return String.format(
+        "* Creative found for buyer account ID '%s' with creative ID '%s' "
+            + "has been updated with the following creative status:\n%s\n\n",
+        accountId, creativeId, PRETTY_GSON.toJson(jsonElement));
+  }
+
+  /**
+   * Formats a creative status message as a single line. The payload is decoded by a streaming
+   * parser into a status, decoder and builder that are reused by each thread.
+   */
+  private static String formatMessageCompact(ReceivedMessage receivedMessage) throws IOException {
+    CreativeStatus status = COMPACT_STATUS.get();
+    COMPACT_DECODER.get().decode(receivedMessage, status);
+
+    StringBuilder builder = COMPACT_BUILDER.get();
+    builder.setLength(0);
+    return status.appendCompact(builder).toString();
+  }
+
+  /** Formats a creative status message in the given output format. */
+  private static String formatMessage(ReceivedMessage receivedMessage, String outputFormat)
+      throws IOException {
+    return "compact".equals(outputFormat)
+        ? formatMessageCompact(receivedMessage)
+        : formatMessage(receivedMessage);
+  }
+
+  /**
+   * Creates an acknowledger for the subscription, using the subscription's ack deadline to decide
+   * when the deadline of unprocessed messages must be extended.
+   */
+  private static MessageAcknowledger newAcknowledger(Pubsub client, Namespace parsedArgs)
+      throws IOException {
+    String subscriptionName = parsedArgs.getString("subscription_name");
+    Subscription subscription = client.projects().subscriptions().get(subscriptionName).execute();
+
+    return new MessageAcknowledger(
+        client,
+        subscriptionName,
+        parsedArgs.getInt("ack_batch_size"),
+        parsedArgs.getLong("ack_delay_millis"),
+        getAckDeadlineSeconds(subscription),
+        parsedArgs.getInt("ack_extension_seconds"));
+  }
+
+  /** Returns the subscription's ack deadline, or Pub/Sub's default if it isn't set. */
+  private static int getAckDeadlineSeconds(Subscription subscription) {
+    Integer ackDeadlineSeconds = subscription.getAckDeadlineSeconds();
+    return ackDeadlineSeconds == null ? DEFAULT_ACK_DEADLINE_SECONDS : ackDeadlineSeconds;
+  }
+
+  /**
+   * Consumes messages from the subscription until the duration elapses or the JVM is shut down,
+   * printing each message as it is handled.
+   */
+  private static void executeContinuously(Pubsub client, Namespace parsedArgs) throws IOException {
+    String subscriptionName = parsedArgs.getString("subscription_name");
+    Integer durationSeconds = parsedArgs.getInt("duration_seconds");
+    final String outputFormat = parsedArgs.getString("output_format");
+
+    final CreativeStatusConsumer consumer =
+        new CreativeStatusConsumer(
+                client,
+                subscriptionName,
+                receivedMessage -> System.out.print(formatMessage(receivedMessage, outputFormat)))
+            .setPullWorkers(parsedArgs.getInt("pull_workers"))
+            .setHandlerThreads(parsedArgs.getInt("handler_threads"))
+            .setMaxMessages(parsedArgs.getInt("max_messages"))
+            .setQueueCapacity(parsedArgs.getInt("queue_capacity"))
+            .setAcknowledge(parsedArgs.getBoolean("acknowledge"))
+            .setAckBatchSize(parsedArgs.getInt("ack_batch_size"))
+            .setAckDelayMillis(parsedArgs.getLong("ack_delay_millis"))
+            .setAckExtensionSeconds(parsedArgs.getInt("ack_extension_seconds"));
+
+    if (parsedArgs.getBoolean("acknowledge")) {
+      Subscription subscription =
+          client.projects().subscriptions().get(subscriptionName).execute();
+      consumer.setSubscriptionAckDeadlineSeconds(getAckDeadlineSeconds(subscription));
+    }
+
+    System.out.printf(
+        "Continuously consuming messages from subscription: '%s'\n", subscriptionName);
+
+    Thread shutdownHook =
+        new Thread(
+            () -> {
+              consumer.stop();
+              try {
+                // Give the handlers a chance to finish queued messages before the JVM exits.
+                consumer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+              } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+              }
+            });
+    Runtime.getRuntime().addShutdownHook(shutdownHook);
+    consumer.start();
+
+    try {
+      if (durationSeconds == null) {
+        // Run until the JVM is shut down; the shutdown hook stops the consumer.
+        new CountDownLatch(1).await();
+      } else {
+        TimeUnit.SECONDS.sleep(durationSeconds);
+      }
+
+      Runtime.getRuntime().removeShutdownHook(shutdownHook);
+      consumer.stop();
+      if (!consumer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        System.out.println("Timed out waiting for queued messages to be handled.");
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while consuming messages.", ex);
+    }
+
+    System.out.printf(
+        "Pulled %d messages: %d handled, %d failed.\n",
+        consumer.getPulledCount(), consumer.getProcessedCount(), consumer.getFailedCount());
+
+    MessageAcknowledger acknowledger = consumer.getAcknowledger();
+    if (acknowledger != null) {
+      System.out.printf(
+          "Acknowledged %d messages in %d requests; %d acknowledgements failed, %d ack deadlines"
+              + " extended.\n",
+          acknowledger.getAcknowledgedCount(),
+          acknowledger.getAcknowledgeRequestCount(),
+          acknowledger.getFailedAcknowledgeCount(),
+          acknowledger.getExtendedCount());
+    }
+  }
+
   public static void execute(Pubsub client, Namespace parsedArgs) throws IOException {
+    if (parsedArgs.getBoolean("continuous")) {
+      executeContinuously(client, parsedArgs);
+      return;
+    }
+
     String subscriptionName = parsedArgs.getString("subscription_name");
 
     System.out.printf("Retrieving messages from subscription: '%s'\n", subscriptionName);
@@ -63,47 +228,41 @@ public class PullWatchedCreativesSubscription {
     PullResponse response =
         client.projects().subscriptions().pull(subscriptionName, pullRequest).execute();
 
-    List<String> ackIds = new ArrayList<>();
     List<ReceivedMessage> receivedMessages = response.getReceivedMessages();
     if (receivedMessages.isEmpty()) {
       System.out.println("No messages received from the subscription.");
     } else {
-      Gson gson = new GsonBuilder().setPrettyPrinting().create();
-
-      for (ReceivedMessage receivedMessage : receivedMessages) {
-        ackIds.add(receivedMessage.getAckId());
-        PubsubMessage message = receivedMessage.getMessage();
-        Map<String, String> messageAttributes = message.getAttributes();
-        String accountId = messageAttributes.get("accountId");
-        String creativeId = messageAttributes.get("creativeId");
-
-        System.out.printf(
-            "* Creative found for buyer account ID '%s' with creative ID '%s' "
-                + "has been updated with the following creative status:\n",
-            accountId, creativeId);
-
-        String decodedData = new String(message.decodeData());
-        JsonElement jsonElement = JsonParser.parseString(decodedData);
-        System.out.printf("%s\n\n", gson.toJson(jsonElement));
-      }
-
-      if (parsedArgs.getBoolean("acknowledge")) {
-        AcknowledgeRequest acknowledgeRequest = new AcknowledgeRequest();
-        acknowledgeRequest.setAckIds(ackIds);
+      String outputFormat = parsedArgs.getString("output_format");
+      MessageAcknowledger acknowledger =
+          parsedArgs.getBoolean("acknowledge") ? newAcknowledger(client, parsedArgs) : null;
 
-        System.out.printf(
-            "Acknowledging all %d messages pulled from the subscription.", ackIds.size());
+      if (acknowledger != null) {
+        for (ReceivedMessage receivedMessage : receivedMessages) {
+          acknowledger.track(receivedMessage.getAckId());
+        }
+      }
 
-        client
-            .projects()
-            .subscriptions()
-            .acknowledge(subscriptionName, acknowledgeRequest)
-            .execute();
+      try {
+        // Acknowledge each message as soon as it has been printed, so that a message that can't
+        // be printed is redelivered rather than lost.
+        for (ReceivedMessage receivedMessage : receivedMessages) {
+          System.out.print(formatMessage(receivedMessage, outputFormat));
+          if (acknowledger != null) {
+            acknowledger.acknowledge(receivedMessage.getAckId());
+          }
+        }
+      } finally {
+        if (acknowledger != null) {
+          acknowledger.close();
+          System.out.printf(
+              "Acknowledged %d of %d messages pulled from the subscription.\n",
+              acknowledger.getAcknowledgedCount(), receivedMessages.size());
+        }
       }
     }
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("PullWatchedCreativesSubscription")
             .build()
@@ -132,6 +291,73 @@ public class PullWatchedCreativesSubscription {
         .type(Boolean.class)
         .action(storeTrue())
         .setDefault(false);
+    parser
+        .addArgument("-o", "--output_format")
+        .help(
+            "How to print each message. 'pretty' prints the message's payload as indented JSON,"
+                + " while 'compact' prints the creative's policy statuses on a single line.")
+        .choices("pretty", "compact")
+        .setDefault("pretty");
+    parser
+        .addArgument("-c", "--continuous")
+        .help(
+            "Whether to keep pulling messages until the JVM is shut down or --duration_seconds"
+                + " elapses, rather than pulling once. In this mode --max_messages is the largest"
+                + " number of messages requested by a single pull.")
+        .type(Boolean.class)
+        .action(storeTrue())
+        .setDefault(false);
+    parser
+        .addArgument("--pull_workers")
+        .help("The number of concurrent pulls in continuous mode.")
+        .type(Integer.class)
+        .setDefault(2);
+    parser
+        .addArgument("--handler_threads")
+        .help("The number of threads handling pulled messages in continuous mode.")
+        .type(Integer.class)
+        .setDefault(4);
+    parser
+        .addArgument("--queue_capacity")
+        .help(
+            "The number of pulled messages that may wait for a handler in continuous mode. Pulls"
+                + " pause while the queue is full.")
+        .type(Integer.class)
+        .setDefault(1000);
+    parser
+        .addArgument("--duration_seconds")
+        .help(
+            "How long to consume messages in continuous mode. If not specified, messages are"
+                + " consumed until the JVM is shut down.")
+        .type(Integer.class);
+    parser
+        .addArgument("--ack_batch_size")
+        .help(
+            String.format(
+                "The largest number of acknowledgements sent in a single request, up to %d.",
+                MessageAcknowledger.MAXIMUM_BATCH_SIZE))
+        .type(Integer.class)
+        .setDefault(1000);
+    parser
+        .addArgument("--ack_delay_millis")
+        .help(
+            "The longest time an acknowledgement waits to be batched with others before being"
+                + " sent.")
+        .type(Long.class)
+        .setDefault(100L);
+    parser
+        .addArgument("--ack_extension_seconds")
+        .help(
+            "The ack deadline set on messages that are still being processed when their current"
+                + " deadline is about to expire.")
+        .type(Integer.class)
+        .setDefault(60);
+
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
 
     Namespace parsedArgs = null;
     try {
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.bidders.creatives;
+
+import com.google.api.services.realtimebidding.v1.RealTimeBidding;
+import com.google.api.services.realtimebidding.v1.model.Creative;
+import com.google.api.services.realtimebidding.v1.model.ListCreativesResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Exports a bidder's creatives by splitting them into disjoint filter shards that are listed
+ * concurrently and merged into a single stream of unique creatives.
+ *
+ * <p>Pages within a single filter must be fetched one after another because each page token is
+ * only returned with the previous page. Listing several disjoint filters at once sidesteps that
+ * limit. Creatives are deduplicated by name in case shards overlap, for example when a creative's
+ * serving decision changes while the export is running.
+ */
+public class ShardedCreativeExporter {
+
+  /** The creative fields that can be used to shard an export. */
+  public enum ShardField {
+    CREATIVE_FORMAT("creativeFormat", Arrays.asList("HTML", "VIDEO", "NATIVE")),
+    SERVING_STATUS(
+        "creativeServingDecision.networkPolicyCompliance.status",
+        Arrays.asList("APPROVED", "DISAPPROVED", "PENDING_REVIEW", "CERTIFICATE_REQUIRED")),
+    ACCOUNT_ID("accountId", Collections.<String>emptyList());
+
+    private final String filterField;
+    private final List<String> defaultValues;
+
+    ShardField(String filterField, List<String> defaultValues) {
+      this.filterField = filterField;
+      this.defaultValues = defaultValues;
+    }
+
+    /** The values used to shard on this field when none are specified. */
+    public List<String> getDefaultValues() {
+      return defaultValues;
+    }
+  }
+
+  /** Marks that a shard has listed all of its creatives. */
+  private static final Object SHARD_DONE = new Object();
+
+  private final RealTimeBidding client;
+  private final String parentBidderName;
+  private final String view;
+  private final Integer pageSize;
+  private final int threads;
+  private final Map<String, Long> creativesPerShard = new LinkedHashMap<>();
+  private long duplicateCount;
+
+  /**
+   * @param client The Real-time Bidding API client.
+   * @param parentBidderName The name of the bidder, in the form "bidders/{accountId}".
+   * @param view The view of the creatives to return.
+   * @param pageSize The number of creatives requested per page.
+   * @param threads The maximum number of shards listed at the same time.
+   */
+  public ShardedCreativeExporter(
+      RealTimeBidding client, String parentBidderName, String view, Integer pageSize, int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("threads must be at least 1.");
+    }
+
+    this.client = client;
+    this.parentBidderName = parentBidderName;
+    this.view = view;
+    this.pageSize = pageSize;
+    this.threads = threads;
+  }
+
+  /**
+   * Builds one filter per shard value by combining the base filter with an equality restriction on
+   * the shard field.
+   *
+   * @param baseFilter The filter applied to every shard, or {@code null}.
+   * @param shardField The field to shard on.
+   * @param shardValues The values of the field, one per shard. If {@code null} or empty, the field's
+   *     default values are used.
+   * @return The filter for each shard, in the order of the values.
+   */
+  public static List<String> buildShardFilters(
+      String baseFilter, ShardField shardField, List<String> shardValues) {
+    if (shardValues == null || shardValues.isEmpty()) {
+      shardValues = shardField.getDefaultValues();
+    }
+    if (shardValues.isEmpty()) {
+      throw new IllegalArgumentException(
+          String.format("Shard values must be specified when sharding by %s.", shardField));
+    }
+
+    String prefix = "";
+    if (baseFilter != null && !baseFilter.trim().isEmpty()) {
+      // Parenthesize the base filter so that an OR in it doesn't bind to the shard restriction.
+      prefix =
+          baseFilter.contains(" OR ")
+              ? String.format("(%s) AND ", baseFilter)
+              : String.format("%s AND ", baseFilter);
+    }
+
+    List<String> filters = new ArrayList<>(shardValues.size());
+    for (String value : new LinkedHashSet<>(shardValues)) {
+      filters.add(String.format("%s%s=%s", prefix, shardField.filterField, value));
+    }
+    return filters;
+  }
+
+  /** Lists every page of a single shard, handing each page to the merge queue. */
+  private void listShard(String filter, BlockingQueue<Object> mergeQueue)
+      throws InterruptedException {
+    try {
+      String pageToken = null;
+      do {
+        ListCreativesResponse response =
+            client
+                .bidders()
+                .creatives()
+                .list(parentBidderName)
+                .setFilter(filter)
+                .setView(view)
+                .setPageSize(pageSize)
+                .setPageToken(pageToken)
+                .execute();
+
+        List<Creative> creatives = response.getCreatives();
+        if (creatives != null && !creatives.isEmpty()) {
+          mergeQueue.put(new ShardPage(filter, creatives));
+        }
+        pageToken = response.getNextPageToken();
+      } while (pageToken != null);
+
+      mergeQueue.put(SHARD_DONE);
+    } catch (IOException ex) {
+      mergeQueue.put(new IOException(String.format("Shard '%s' failed.", filter), ex));
+    } catch (RuntimeException ex) {
+      mergeQueue.put(ex);
+    }
+  }
+
+  /** A page of creatives listed by a shard. */
+  private static class ShardPage {
+    final String filter;
+    final List<Creative> creatives;
+
+    ShardPage(String filter, List<Creative> creatives) {
+      this.filter = filter;
+      this.creatives = creatives;
+    }
+  }
+
+  /**
+   * Lists the creatives of every shard concurrently and passes each unique creative to the
+   * consumer. The consumer is always called from the calling thread.
+   *
+   * @param shardFilters The disjoint filters that together cover the creatives to export.
+   * @param consumer Receives each unique creative.
+   * @return The number of unique creatives passed to the consumer.
+   * @throws IOException if any shard fails; the remaining shards are cancelled.
+   */
+  public long export(List<String> shardFilters, Consumer<Creative> consumer) throws IOException {
+    final BlockingQueue<Object> mergeQueue = new ArrayBlockingQueue<>(threads * 2);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    Set<String> seenNames = new HashSet<>();
+    long uniqueCount = 0;
+
+    creativesPerShard.clear();
+    duplicateCount = 0;
+
+    try {
+      for (final String filter : shardFilters) {
+        creativesPerShard.put(filter, 0L);
+        executor.submit(
+            () -> {
+              listShard(filter, mergeQueue);
+              return null;
+            });
+      }
+
+      int remainingShards = shardFilters.size();
+      while (remainingShards > 0) {
+        Object next = mergeQueue.take();
+
+        if (next == SHARD_DONE) {
+          remainingShards--;
+        } else if (next instanceof IOException) {
+          throw (IOException) next;
+        } else if (next instanceof RuntimeException) {
+          throw (RuntimeException) next;
+        } else {
+          ShardPage page = (ShardPage) next;
+          creativesPerShard.merge(page.filter, (long) page.creatives.size(), Long::sum);
+
+          for (Creative creative : page.creatives) {
+            if (seenNames.add(creative.getName())) {
+              consumer.accept(creative);
+              uniqueCount++;
+            } else {
+              duplicateCount++;
+            }
+          }
+        }
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while exporting creatives.", ex);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    return uniqueCount;
+  }
+
+  /** Returns the number of creatives listed by each shard filter during the last export. */
+  public Map<String, Long> getCreativesPerShard() {
+    return Collections.unmodifiableMap(creativesPerShard);
+  }
+
+  /** Returns the number of creatives skipped during the last export because they were repeated. */
+  public long getDuplicateCount() {
+    return duplicateCount;
+  }
+}
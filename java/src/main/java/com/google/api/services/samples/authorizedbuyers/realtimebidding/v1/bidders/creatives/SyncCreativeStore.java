@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.bidders.creatives;
+
+import com.google.api.services.realtimebidding.v1.RealTimeBidding;
+import com.google.api.services.realtimebidding.v1.model.Creative;
+import com.google.api.services.realtimebidding.v1.model.CreativeServingDecision;
+import com.google.api.services.realtimebidding.v1.model.ListCreativesResponse;
+import com.google.api.services.samples.authorizedbuyers.realtimebidding.Utils;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import net.sourceforge.argparse4j.ArgumentParsers;
+import net.sourceforge.argparse4j.inf.ArgumentParser;
+import net.sourceforge.argparse4j.inf.ArgumentParserException;
+import net.sourceforge.argparse4j.inf.Namespace;
+
+/**
+ * This sample illustrates how to keep a local copy of a bidder's creatives up to date without
+ * downloading every creative's full contents each time.
+ *
+ * <p>The first sync lists every creative with the FULL view. Subsequent syncs list creatives with
+ * the SERVING_DECISION_ONLY view and compare each one against the local copy: creatives that are
+ * new or whose version changed are re-fetched individually with the FULL view, creatives whose
+ * serving decision alone changed are updated in place, and creatives that are no longer listed are
+ * removed.
+ */
+public class SyncCreativeStore {
+
+  /** Lists every page of the bidder's creatives with the given view. */
+  private static List<Creative> listCreatives(
+      RealTimeBidding client, String parent, String filter, String view, Integer pageSize)
+      throws IOException {
+    List<Creative> creatives = new ArrayList<>();
+    String pageToken = null;
+
+    do {
+      ListCreativesResponse response =
+          client
+              .bidders()
+              .creatives()
+              .list(parent)
+              .setFilter(filter)
+              .setView(view)
+              .setPageSize(pageSize)
+              .setPageToken(pageToken)
+              .execute();
+
+      if (response.getCreatives() != null) {
+        creatives.addAll(response.getCreatives());
+      }
+      pageToken = response.getNextPageToken();
+    } while (pageToken != null);
+
+    return creatives;
+  }
+
+  /** Fetches the full contents of the named creatives concurrently. */
+  private static List<Creative> fetchCreatives(
+      final RealTimeBidding client, List<String> names, int threads) throws IOException {
+    List<Creative> creatives = new ArrayList<>(names.size());
+    if (names.isEmpty()) {
+      return creatives;
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Creative>> futures = new ArrayList<>(names.size());
+      for (final String name : names) {
+        futures.add(
+            executor.submit(() -> client.buyers().creatives().get(name).setView("FULL").execute()));
+      }
+
+      for (Future<Creative> future : futures) {
+        creatives.add(future.get());
+      }
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof IOException) {
+        throw (IOException) ex.getCause();
+      }
+      throw new IOException(ex.getCause());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while fetching creatives.", ex);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    return creatives;
+  }
+
+  public static void execute(RealTimeBidding client, Namespace parsedArgs) throws IOException {
+    Long accountId = parsedArgs.getLong("account_id");
+    String parent = String.format("bidders/%s", accountId);
+    String filter = parsedArgs.getString("filter");
+    Integer pageSize = parsedArgs.getInt("page_size");
+    long startMillis = System.currentTimeMillis();
+
+    CreativeStore store = CreativeStore.open(Paths.get(parsedArgs.getString("store_path")));
+    int added = 0;
+    int updated = 0;
+    int servingDecisionsUpdated = 0;
+    int unchanged = 0;
+    int removed = 0;
+
+    System.out.printf(
+        "Syncing %d locally stored creatives for bidder Account ID '%d'.\n", store.size(), accountId);
+
+    if (store.size() == 0) {
+      for (Creative creative : listCreatives(client, parent, filter, "FULL", pageSize)) {
+        store.put(creative);
+        added++;
+      }
+    } else {
+      List<String> namesToFetch = new ArrayList<>();
+      Set<String> listedNames = new HashSet<>();
+
+      for (Creative listed :
+          listCreatives(client, parent, filter, "SERVING_DECISION_ONLY", pageSize)) {
+        String name = listed.getName();
+        Creative stored = store.get(name);
+        listedNames.add(name);
+
+        if (stored == null) {
+          namesToFetch.add(name);
+          added++;
+          continue;
+        }
+
+        Integer listedVersion = listed.getVersion();
+        CreativeServingDecision listedDecision = listed.getCreativeServingDecision();
+        boolean servingDecisionChanged =
+            !Objects.equals(listedDecision, stored.getCreativeServingDecision());
+
+        if (listedVersion != null && !listedVersion.equals(stored.getVersion())) {
+          namesToFetch.add(name);
+          updated++;
+        } else if (servingDecisionChanged && listedVersion == null) {
+          // Without a version to compare, a changed serving decision is the only sign that the
+          // contents may have changed, so fetch the creative again to be safe.
+          namesToFetch.add(name);
+          updated++;
+        } else if (servingDecisionChanged) {
+          stored.setCreativeServingDecision(listedDecision);
+          servingDecisionsUpdated++;
+        } else {
+          unchanged++;
+        }
+      }
+
+      for (String name : new ArrayList<>(store.getNames())) {
+        if (!listedNames.contains(name)) {
+          store.remove(name);
+          removed++;
+        }
+      }
+
+      for (Creative creative :
+          fetchCreatives(client, namesToFetch, parsedArgs.getInt("fetch_threads"))) {
+        store.put(creative);
+      }
+    }
+
+    store.save();
+
+    System.out.printf(
+        "Synced %d creatives in %d ms: %d added, %d updated, %d serving decisions updated, "
+            + "%d unchanged, %d removed.\n",
+        store.size(),
+        System.currentTimeMillis() - startMillis,
+        added,
+        updated,
+        servingDecisionsUpdated,
+        unchanged,
+        removed);
+  }
+
+  public static ArgumentParser buildArgumentParser() {
+    ArgumentParser parser =
+        ArgumentParsers.newFor("SyncCreativeStore")
+            .build()
+            .defaultHelp(true)
+            .description(
+                ("Incrementally syncs a local store of creatives for the given bidder account."));
+    parser
+        .addArgument("-a", "--account_id")
+        .help(
+            "The resource ID of the bidders resource under which the creatives were created by"
+                + " buyers. This will be used to construct the parent used as a path parameter for"
+                + " the creatives.list request.")
+        .required(true)
+        .type(Long.class);
+    parser
+        .addArgument("-s", "--store_path")
+        .help(
+            "Path to the file in which creatives are stored between runs. The file is created by"
+                + " the first sync.")
+        .setDefault("creatives.jsonl");
+    parser
+        .addArgument("-f", "--filter")
+        .help(
+            "Query string to filter creatives. If no filter is specified, all active creatives"
+                + " will be synced. Creatives that no longer match the filter are removed from the"
+                + " store.");
+    parser
+        .addArgument("-p", "--page_size")
+        .help("The number of creatives to request per page of the creatives.list request.")
+        .setDefault(Utils.getMaximumPageSize())
+        .type(Integer.class);
+    parser
+        .addArgument("-t", "--fetch_threads")
+        .help("The maximum number of new or changed creatives fetched at the same time.")
+        .type(Integer.class)
+        .setDefault(4);
+
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
+    Namespace parsedArgs = null;
+    try {
+      parsedArgs = parser.parseArgs(args);
+    } catch (ArgumentParserException ex) {
+      parser.handleError(ex);
+      System.exit(1);
+    }
+
+    RealTimeBidding client = null;
+    try {
+      client = Utils.getRealTimeBiddingClient();
+    } catch (IOException ex) {
+      System.out.printf("Unable to create RealTimeBidding API service:\n%s", ex);
+      System.out.println("Did you specify a valid path to a service account key file?");
+      System.exit(1);
+    } catch (GeneralSecurityException ex) {
+      System.out.printf("Unable to establish secure HttpTransport:\n%s", ex);
+      System.exit(1);
+    }
+
+    try {
+      execute(client, parsedArgs);
+    } catch (IOException ex) {
+      System.out.printf("RealTimeBidding API returned error response:\n%s", ex);
+      System.exit(1);
+    }
+  }
+}
@@ -50,7 +50,7 @@ public class WatchCreatives {
     System.out.printf("- Subscription: %s\n", response.getSubscription());
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("WatchCreatives")
             .build()
@@ -65,6 +65,12 @@ public class WatchCreatives {
         .required(true)
         .type(Long.class);
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
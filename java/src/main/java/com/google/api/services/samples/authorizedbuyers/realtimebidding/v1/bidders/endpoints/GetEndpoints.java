@@ -43,7 +43,7 @@ public class GetEndpoints {
     Utils.printEndpoint(endpoint);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("GetBidders")
             .build()
@@ -65,6 +65,12 @@ public class GetEndpoints {
         .required(true)
         .type(Long.class);
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
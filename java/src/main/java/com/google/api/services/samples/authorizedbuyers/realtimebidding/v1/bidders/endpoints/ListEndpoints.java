@@ -64,7 +64,7 @@ public class ListEndpoints {
     } while (pageToken != null);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("ListBidders")
             .build()
@@ -86,6 +86,12 @@ public class ListEndpoints {
         .setDefault(Utils.getMaximumPageSize())
         .type(Integer.class);
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
@@ -48,7 +48,7 @@ public class PatchEndpoints {
     Utils.printEndpoint(endpoint);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("PatchEndpoints")
             .build()
@@ -80,6 +80,12 @@ public class PatchEndpoints {
                 + "location of users that bid requests are sent for.")
         .setDefault("US_EAST");
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
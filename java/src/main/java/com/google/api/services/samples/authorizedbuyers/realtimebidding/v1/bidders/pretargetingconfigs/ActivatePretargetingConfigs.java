@@ -48,7 +48,7 @@ public class ActivatePretargetingConfigs {
     Utils.printPretargetingConfig(pretargetingConfig);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("ActivatePretargetingConfigs")
             .build()
@@ -67,6 +67,12 @@ public class ActivatePretargetingConfigs {
         .required(true)
         .type(Long.class);
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
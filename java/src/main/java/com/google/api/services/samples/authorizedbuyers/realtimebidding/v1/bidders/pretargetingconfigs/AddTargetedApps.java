@@ -61,7 +61,7 @@ public class AddTargetedApps {
     Utils.printPretargetingConfig(pretargetingConfig);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("AddTargetedApps")
             .build()
@@ -100,6 +100,12 @@ public class AddTargetedApps {
         .type(String.class)
         .nargs("*");
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
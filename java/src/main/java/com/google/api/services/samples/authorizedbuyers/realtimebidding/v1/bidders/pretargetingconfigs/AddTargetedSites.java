@@ -61,7 +61,7 @@ public class AddTargetedSites {
     Utils.printPretargetingConfig(pretargetingConfig);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("AddTargetedSites")
             .build()
@@ -97,6 +97,12 @@ public class AddTargetedSites {
         .type(String.class)
         .nargs("*");
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.bidders.pretargetingconfigs;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The attributes of a bid request that pretargeting configurations are evaluated against.
+ *
+ * <p>ID-valued attributes that a request may carry several of, such as the geo IDs of its city,
+ * region and country, are held as primitive arrays. Attributes that aren't set don't match any
+ * configuration that restricts them. Profiles are mutable so that one instance can be refilled for
+ * each request when evaluating many synthetic requests.
+ */
+public class BidRequestProfile {
+
+  private static final long[] NO_IDS = new long[0];
+
+  private String format;
+  private String environment;
+  private String platform;
+  private String language;
+  private String userIdType;
+  private long mobileOperatingSystemId;
+  private long[] geoIds = NO_IDS;
+  private long[] userListIds = NO_IDS;
+  private long[] verticalIds = NO_IDS;
+  private long[] contentLabelIds = NO_IDS;
+  private long[] mobileAppCategoryIds = NO_IDS;
+  private long[] sizes = NO_IDS;
+  private String appId;
+  private String siteUrl;
+  private List<String> siteMatchCandidates;
+  private String publisherId;
+  private int viewabilityDecile = -1;
+  private boolean interstitial;
+
+  /** Resets every attribute to unset. */
+  public BidRequestProfile clear() {
+    format = null;
+    environment = null;
+    platform = null;
+    language = null;
+    userIdType = null;
+    mobileOperatingSystemId = 0;
+    geoIds = NO_IDS;
+    userListIds = NO_IDS;
+    verticalIds = NO_IDS;
+    contentLabelIds = NO_IDS;
+    mobileAppCategoryIds = NO_IDS;
+    sizes = NO_IDS;
+    appId = null;
+    siteUrl = null;
+    siteMatchCandidates = null;
+    publisherId = null;
+    viewabilityDecile = -1;
+    interstitial = false;
+    return this;
+  }
+
+  /** Packs a creative size into a single value, as stored by {@link #setSizes}. */
+  public static long packSize(long width, long height) {
+    return (width << 32) | (height & 0xFFFFFFFFL);
+  }
+
+  /** The creative format requested, for example "HTML", "NATIVE" or "VIDEO". */
+  public String getFormat() {
+    return format;
+  }
+
+  public BidRequestProfile setFormat(String format) {
+    this.format = format;
+    return this;
+  }
+
+  /** The environment of the request, either "APP" or "WEB". */
+  public String getEnvironment() {
+    return environment;
+  }
+
+  public BidRequestProfile setEnvironment(String environment) {
+    this.environment = environment;
+    return this;
+  }
+
+  /** The platform of the request, for example "PERSONAL_COMPUTER" or "PHONE". */
+  public String getPlatform() {
+    return platform;
+  }
+
+  public BidRequestProfile setPlatform(String platform) {
+    this.platform = platform;
+    return this;
+  }
+
+  /** The language of the request as a language code, for example "en". */
+  public String getLanguage() {
+    return language;
+  }
+
+  public BidRequestProfile setLanguage(String language) {
+    this.language = language;
+    return this;
+  }
+
+  /** The type of user ID carried by the request, for example "HOSTED_MATCH_DATA". */
+  public String getUserIdType() {
+    return userIdType;
+  }
+
+  public BidRequestProfile setUserIdType(String userIdType) {
+    this.userIdType = userIdType;
+    return this;
+  }
+
+  /** The mobile operating system ID of the request, or 0 if unknown. */
+  public long getMobileOperatingSystemId() {
+    return mobileOperatingSystemId;
+  }
+
+  public BidRequestProfile setMobileOperatingSystemId(long mobileOperatingSystemId) {
+    this.mobileOperatingSystemId = mobileOperatingSystemId;
+    return this;
+  }
+
+  /** The geo IDs of the request's location, for example its city, region and country. */
+  public long[] getGeoIds() {
+    return geoIds;
+  }
+
+  public BidRequestProfile setGeoIds(long... geoIds) {
+    this.geoIds = geoIds;
+    return this;
+  }
+
+  /** The IDs of the user lists the user belongs to. */
+  public long[] getUserListIds() {
+    return userListIds;
+  }
+
+  public BidRequestProfile setUserListIds(long... userListIds) {
+    this.userListIds = userListIds;
+    return this;
+  }
+
+  /** The IDs of the publisher verticals of the request. */
+  public long[] getVerticalIds() {
+    return verticalIds;
+  }
+
+  public BidRequestProfile setVerticalIds(long... verticalIds) {
+    this.verticalIds = verticalIds;
+    return this;
+  }
+
+  /** The IDs of the content labels of the request. */
+  public long[] getContentLabelIds() {
+    return contentLabelIds;
+  }
+
+  public BidRequestProfile setContentLabelIds(long... contentLabelIds) {
+    this.contentLabelIds = contentLabelIds;
+    return this;
+  }
+
+  /** The IDs of the categories of the mobile app the request is from. */
+  public long[] getMobileAppCategoryIds() {
+    return mobileAppCategoryIds;
+  }
+
+  public BidRequestProfile setMobileAppCategoryIds(long... mobileAppCategoryIds) {
+    this.mobileAppCategoryIds = mobileAppCategoryIds;
+    return this;
+  }
+
+  /** The sizes of the request's ad slots, each packed by {@link #packSize}. */
+  public long[] getSizes() {
+    return sizes;
+  }
+
+  public BidRequestProfile setSizes(long... sizes) {
+    this.sizes = sizes;
+    return this;
+  }
+
+  /** The ID of the mobile app the request is from. */
+  public String getAppId() {
+    return appId;
+  }
+
+  public BidRequestProfile setAppId(String appId) {
+    this.appId = appId;
+    return this;
+  }
+
+  /** The URL of the site the request is from. */
+  public String getSiteUrl() {
+    return siteUrl;
+  }
+
+  public BidRequestProfile setSiteUrl(String siteUrl) {
+    this.siteUrl = siteUrl;
+    this.siteMatchCandidates = null;
+    return this;
+  }
+
+  /** Returns the web targeting values matched by the site URL, computed once per URL. */
+  List<String> getSiteMatchCandidates() {
+    if (siteMatchCandidates == null) {
+      siteMatchCandidates = SiteUrls.matchCandidates(SiteUrls.normalize(siteUrl));
+    }
+    return siteMatchCandidates;
+  }
+
+  /** The ID of the publisher the request is from, for example "pub-1234567890123456". */
+  public String getPublisherId() {
+    return publisherId;
+  }
+
+  public BidRequestProfile setPublisherId(String publisherId) {
+    this.publisherId = publisherId;
+    return this;
+  }
+
+  /** The predicted viewability decile of the request from 0 to 10, or -1 if unknown. */
+  public int getViewabilityDecile() {
+    return viewabilityDecile;
+  }
+
+  public BidRequestProfile setViewabilityDecile(int viewabilityDecile) {
+    this.viewabilityDecile = viewabilityDecile;
+    return this;
+  }
+
+  /** Whether the request is for an interstitial ad slot. */
+  public boolean isInterstitial() {
+    return interstitial;
+  }
+
+  public BidRequestProfile setInterstitial(boolean interstitial) {
+    this.interstitial = interstitial;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sizeList = new StringBuilder();
+    for (long size : sizes) {
+      if (sizeList.length() > 0) {
+        sizeList.append(", ");
+      }
+      sizeList.append(size >>> 32).append('x').append(size & 0xFFFFFFFFL);
+    }
+
+    return String.format(
+        Locale.US,
+        "format=%s environment=%s platform=%s language=%s geoIds=%s userListIds=%s"
+            + " verticalIds=%s sizes=[%s] appId=%s siteUrl=%s publisherId=%s"
+            + " viewabilityDecile=%d interstitial=%b",
+        format,
+        environment,
+        platform,
+        language,
+        Arrays.toString(geoIds),
+        Arrays.toString(userListIds),
+        Arrays.toString(verticalIds),
+        sizeList,
+        appId,
+        siteUrl,
+        publisherId,
+        viewabilityDecile,
+        interstitial);
+  }
+}
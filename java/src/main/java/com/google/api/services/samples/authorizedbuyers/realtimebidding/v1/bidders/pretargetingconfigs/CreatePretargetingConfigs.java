@@ -116,7 +116,7 @@ public class CreatePretargetingConfigs {
     Utils.printPretargetingConfig(pretargetingConfig);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("CreatePretargetingConfigs")
             .build()
@@ -347,6 +347,12 @@ public class CreatePretargetingConfigs {
         .type(String.class)
         .setDefault(5);
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
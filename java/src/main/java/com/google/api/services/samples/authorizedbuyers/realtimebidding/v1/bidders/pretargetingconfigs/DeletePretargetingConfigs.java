@@ -39,7 +39,7 @@ public class DeletePretargetingConfigs {
     System.out.printf("Pretargeting configuration with name '%s' deleted successfully.\n", name);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("DeletePretargetingConfigs")
             .build()
@@ -58,6 +58,12 @@ public class DeletePretargetingConfigs {
         .required(true)
         .type(Long.class);
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.bidders.pretargetingconfigs;
+
+import static net.sourceforge.argparse4j.impl.Arguments.storeTrue;
+
+import com.google.api.services.realtimebidding.v1.RealTimeBidding;
+import com.google.api.services.realtimebidding.v1.model.PretargetingConfig;
+import com.google.api.services.samples.authorizedbuyers.realtimebidding.Utils;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.argparse4j.ArgumentParsers;
+import net.sourceforge.argparse4j.inf.ArgumentParser;
+import net.sourceforge.argparse4j.inf.ArgumentParserException;
+import net.sourceforge.argparse4j.inf.Namespace;
+
+/**
+ * This sample illustrates how to evaluate a bidder's pretargeting configurations locally, either
+ * against a single bid request described by the arguments, or against many synthetic bid requests
+ * to estimate how traffic would be distributed across the configurations.
+ *
+ * <p>The evaluation is an approximation of pretargeting, intended for exploring the effect of
+ * configuration changes; see {@link PretargetingEvaluator} for the semantics it follows.
+ */
+public class EvaluatePretargetingConfigs {
+
+  private static long[] toArray(List<Long> ids) {
+    if (ids == null) {
+      return new long[0];
+    }
+
+    long[] array = new long[ids.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = ids.get(i);
+    }
+    return array;
+  }
+
+  private static BidRequestProfile buildProfile(Namespace parsedArgs) {
+    BidRequestProfile profile =
+        new BidRequestProfile()
+            .setFormat(parsedArgs.getString("format"))
+            .setEnvironment(parsedArgs.getString("environment"))
+            .setPlatform(parsedArgs.getString("platform"))
+            .setLanguage(parsedArgs.getString("language"))
+            .setUserIdType(parsedArgs.getString("user_id_type"))
+            .setGeoIds(toArray(parsedArgs.<Long>getList("geo_ids")))
+            .setUserListIds(toArray(parsedArgs.<Long>getList("user_list_ids")))
+            .setVerticalIds(toArray(parsedArgs.<Long>getList("vertical_ids")))
+            .setContentLabelIds(toArray(parsedArgs.<Long>getList("content_label_ids")))
+            .setMobileAppCategoryIds(toArray(parsedArgs.<Long>getList("mobile_app_category_ids")))
+            .setAppId(parsedArgs.getString("app_id"))
+            .setSiteUrl(parsedArgs.getString("site_url"))
+            .setPublisherId(parsedArgs.getString("publisher_id"))
+            .setViewabilityDecile(parsedArgs.getInt("viewability_decile"))
+            .setInterstitial(parsedArgs.getBoolean("interstitial"));
+
+    Long mobileOperatingSystemId = parsedArgs.getLong("mobile_os_id");
+    if (mobileOperatingSystemId != null) {
+      profile.setMobileOperatingSystemId(mobileOperatingSystemId);
+    }
+
+    Long width = parsedArgs.getLong("creative_width");
+    Long height = parsedArgs.getLong("creative_height");
+    if (width != null && height != null) {
+      profile.setSizes(BidRequestProfile.packSize(width, height));
+    }
+
+    return profile;
+  }
+
+  private static void evaluateRequest(PretargetingEvaluator evaluator, Namespace parsedArgs) {
+    BidRequestProfile profile = buildProfile(parsedArgs);
+    int[] matchedOrdinals = new int[evaluator.getConfigs().size()];
+
+    long startNanos = System.nanoTime();
+    int matchCount = evaluator.match(profile, matchedOrdinals);
+    long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+
+    System.out.printf("Evaluated bid request in %d microseconds:\n\t%s\n", elapsedMicros, profile);
+    if (matchCount == 0) {
+      System.out.println("No pretargeting configurations match the bid request.");
+      return;
+    }
+
+    System.out.printf("%d pretargeting configurations match the bid request:\n", matchCount);
+    for (int i = 0; i < matchCount; i++) {
+      PretargetingConfig config = evaluator.getConfigs().get(matchedOrdinals[i]);
+      System.out.printf(
+          "* '%s' (%s), billing ID %d\n",
+          config.getName(), config.getDisplayName(), config.getBillingId());
+    }
+  }
+
+  private static void simulateRequests(PretargetingEvaluator evaluator, Namespace parsedArgs)
+      throws IOException {
+    final List<PretargetingConfig> configs = evaluator.getConfigs();
+    final long seed = parsedArgs.getLong("seed");
+    final double untargetedRate = parsedArgs.getDouble("untargeted_rate");
+    long requestCount = parsedArgs.getLong("simulate_requests");
+    Long totalQps = parsedArgs.getLong("total_qps");
+
+    PretargetingEvaluator.SimulationResult result;
+    try {
+      result =
+          evaluator.simulate(
+              thread -> new SyntheticBidRequestGenerator(configs, seed + thread, untargetedRate),
+              requestCount,
+              parsedArgs.getInt("threads"));
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while simulating bid requests.", ex);
+    }
+
+    double elapsedSeconds = result.getElapsedNanos() / 1e9;
+    System.out.printf(
+        "Evaluated %d synthetic bid requests in %.2f seconds (%.0f requests per second).\n",
+        requestCount, elapsedSeconds, requestCount / Math.max(elapsedSeconds, 1e-9));
+    System.out.printf(
+        "%d requests (%.2f%%) matched no pretargeting configuration.\n",
+        result.getUnmatchedCount(), 100.0 * result.getUnmatchedCount() / requestCount);
+
+    for (int ordinal = 0; ordinal < configs.size(); ordinal++) {
+      PretargetingConfig config = configs.get(ordinal);
+      System.out.printf(
+          "* '%s' (%s) matched %d requests (%.2f%%)",
+          config.getName(),
+          config.getDisplayName(),
+          result.getMatchCount(ordinal),
+          100 * result.getMatchRate(ordinal));
+
+      if (totalQps != null) {
+        // Traffic beyond a configuration's maximum QPS is throttled.
+        double qps = totalQps * result.getMatchRate(ordinal);
+        Long maximumQps = config.getMaximumQps();
+        if (maximumQps != null && maximumQps > 0) {
+          qps = Math.min(qps, maximumQps);
+        }
+        System.out.printf(", estimated QPS %.0f", qps);
+      }
+      System.out.println();
+    }
+  }
+
+  public static void execute(RealTimeBidding client, Namespace parsedArgs) throws IOException {
+    Long accountId = parsedArgs.getLong("account_id");
+    String parentBidderName = String.format("bidders/%s", accountId);
+
+    List<PretargetingConfig> pretargetingConfigs =
+        ListPretargetingConfigs.listPretargetingConfigs(
+            client, parentBidderName, parsedArgs.getInt("page_size"));
+    PretargetingEvaluator evaluator =
+        new PretargetingEvaluator(pretargetingConfigs, parsedArgs.getBoolean("include_suspended"));
+
+    System.out.printf(
+        "Compiled %d of %d pretargeting configurations for bidder Account ID '%d'.\n",
+        evaluator.getConfigs().size(), pretargetingConfigs.size(), accountId);
+
+    if (parsedArgs.getLong("simulate_requests") != null) {
+      simulateRequests(evaluator, parsedArgs);
+    } else {
+      evaluateRequest(evaluator, parsedArgs);
+    }
+  }
+
+  public static ArgumentParser buildArgumentParser() {
+    ArgumentParser parser =
+        ArgumentParsers.newFor("EvaluatePretargetingConfigs")
+            .build()
+            .defaultHelp(true)
+            .description(
+                ("Evaluates the given bidder account's pretargeting configurations locally"
+                    + " against a bid request, or against many synthetic bid requests."));
+    parser
+        .addArgument("-a", "--account_id")
+        .help(
+            "The resource ID of the bidders resource under which the pretargeting configurations"
+                + " were created.")
+        .required(true)
+        .type(Long.class);
+    parser
+        .addArgument("-p", "--page_size")
+        .help("The number of pretargeting configurations to request per page.")
+        .setDefault(Utils.getMaximumPageSize())
+        .type(Integer.class);
+    parser
+        .addArgument("--include_suspended")
+        .help("Whether to evaluate suspended configurations as though they were active.")
+        .type(Boolean.class)
+        .action(storeTrue())
+        .setDefault(false);
+    parser
+        .addArgument("--format")
+        .help("The creative format of the bid request. Valid values include: HTML, NATIVE, VIDEO.");
+    parser
+        .addArgument("--environment")
+        .help("The environment of the bid request. Valid values include: APP and WEB.");
+    parser
+        .addArgument("--platform")
+        .help(
+            "The platform of the bid request. Valid values include: PERSONAL_COMPUTER, PHONE,"
+                + " TABLET, and CONNECTED_TV.");
+    parser.addArgument("--language").help("The language code of the bid request, e.g. \"en\".");
+    parser
+        .addArgument("--user_id_type")
+        .help(
+            "The user identifier type of the bid request. Valid values include:"
+                + " HOSTED_MATCH_DATA, GOOGLE_COOKIE, and DEVICE_ID.");
+    parser
+        .addArgument("--geo_ids")
+        .help(
+            "The geo IDs of the bid request's location. Specify the IDs of each level of the"
+                + " location, such as its city and country, separated by a space.")
+        .type(Long.class)
+        .nargs("*");
+    parser
+        .addArgument("--user_list_ids")
+        .help("The IDs of the user lists the user belongs to, separated by a space.")
+        .type(Long.class)
+        .nargs("*");
+    parser
+        .addArgument("--vertical_ids")
+        .help("The publisher vertical IDs of the bid request, separated by a space.")
+        .type(Long.class)
+        .nargs("*");
+    parser
+        .addArgument("--content_label_ids")
+        .help("The sensitive content label IDs of the bid request, separated by a space.")
+        .type(Long.class)
+        .nargs("*");
+    parser
+        .addArgument("--mobile_app_category_ids")
+        .help("The categories of the mobile app the bid request is from, separated by a space.")
+        .type(Long.class)
+        .nargs("*");
+    parser
+        .addArgument("--mobile_os_id")
+        .help("The mobile OS ID of the bid request.")
+        .type(Long.class);
+    parser
+        .addArgument("--creative_width")
+        .help("The width of the bid request's ad slot.")
+        .type(Long.class);
+    parser
+        .addArgument("--creative_height")
+        .help("The height of the bid request's ad slot.")
+        .type(Long.class);
+    parser.addArgument("--app_id").help("The ID of the mobile app the bid request is from.");
+    parser.addArgument("--site_url").help("The URL of the site the bid request is from.");
+    parser
+        .addArgument("--publisher_id")
+        .help("The ID of the publisher the bid request is from, e.g. \"pub-1234567890123456\".");
+    parser
+        .addArgument("--viewability_decile")
+        .help("The predicted viewability decile of the bid request, from 0 to 10.")
+        .type(Integer.class)
+        .setDefault(-1);
+    parser
+        .addArgument("--interstitial")
+        .help("Whether the bid request is for an interstitial ad slot.")
+        .type(Boolean.class)
+        .action(storeTrue())
+        .setDefault(false);
+    parser
+        .addArgument("--simulate_requests")
+        .help(
+            "The number of synthetic bid requests to evaluate. If specified, the bid request"
+                + " arguments are ignored and the share of requests matched by each configuration"
+                + " is printed instead.")
+        .type(Long.class);
+    parser
+        .addArgument("--threads")
+        .help("The number of threads evaluating synthetic bid requests.")
+        .type(Integer.class)
+        .setDefault(Runtime.getRuntime().availableProcessors());
+    parser
+        .addArgument("--seed")
+        .help("The seed used to generate synthetic bid requests.")
+        .type(Long.class)
+        .setDefault(1L);
+    parser
+        .addArgument("--untargeted_rate")
+        .help(
+            "The probability that an ID of a synthetic bid request is one that no configuration"
+                + " targets, from 0 to 1.")
+        .type(Double.class)
+        .setDefault(0.1);
+    parser
+        .addArgument("--total_qps")
+        .help(
+            "The total QPS of the simulated traffic. If specified, the QPS each configuration"
+                + " would receive is estimated, capped by its maximum QPS.")
+        .type(Long.class);
+
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
+    Namespace parsedArgs = null;
+    try {
+      parsedArgs = parser.parseArgs(args);
+    } catch (ArgumentParserException ex) {
+      parser.handleError(ex);
+      System.exit(1);
+    }
+
+    RealTimeBidding client = null;
+    try {
+      client = Utils.getRealTimeBiddingClient();
+    } catch (IOException ex) {
+      System.out.printf("Unable to create RealTimeBidding API service:\n%s", ex);
+      System.out.println("Did you specify a valid path to a service account key file?");
+      System.exit(1);
+    } catch (GeneralSecurityException ex) {
+      System.out.printf("Unable to establish secure HttpTransport:\n%s", ex);
+      System.exit(1);
+    }
+
+    try {
+      execute(client, parsedArgs);
+    } catch (IOException ex) {
+      System.out.printf("RealTimeBidding API returned error response:\n%s", ex);
+      System.exit(1);
+    }
+  }
+}
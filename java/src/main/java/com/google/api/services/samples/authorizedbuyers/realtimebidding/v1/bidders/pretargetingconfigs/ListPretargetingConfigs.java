@@ -22,6 +22,7 @@ import com.google.api.services.realtimebidding.v1.model.PretargetingConfig;
 import com.google.api.services.samples.authorizedbuyers.realtimebidding.Utils;
 import java.io.IOException;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.List;
 import net.sourceforge.argparse4j.ArgumentParsers;
 import net.sourceforge.argparse4j.inf.ArgumentParser;
@@ -33,6 +34,37 @@ import net.sourceforge.argparse4j.inf.Namespace;
  */
 public class ListPretargetingConfigs {
 
+  /**
+   * Lists every pretargeting configuration of a bidder.
+   *
+   * @param client The Real-time Bidding API client.
+   * @param parentBidderName The name of the bidder, in the form "bidders/{accountId}".
+   * @param pageSize The number of configurations requested per page.
+   */
+  public static List<PretargetingConfig> listPretargetingConfigs(
+      RealTimeBidding client, String parentBidderName, Integer pageSize) throws IOException {
+    List<PretargetingConfig> pretargetingConfigs = new ArrayList<>();
+    String pageToken = null;
+
+    do {
+      ListPretargetingConfigsResponse response =
+          client
+              .bidders()
+              .pretargetingConfigs()
+              .list(parentBidderName)
+              .setPageSize(pageSize)
+              .setPageToken(pageToken)
+              .execute();
+
+      if (response.getPretargetingConfigs() != null) {
+        pretargetingConfigs.addAll(response.getPretargetingConfigs());
+      }
+      pageToken = response.getNextPageToken();
+    } while (pageToken != null);
+
+    return pretargetingConfigs;
+  }
+
   public static void execute(RealTimeBidding client, Namespace parsedArgs) throws IOException {
     Long accountId = parsedArgs.getLong("account_id");
     Integer pageSize = parsedArgs.getInt("page_size");
@@ -66,7 +98,7 @@ public class ListPretargetingConfigs {
     } while (pageToken != null);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("ListPretargetingConfigs")
             .build()
@@ -89,6 +121,12 @@ public class ListPretargetingConfigs {
         .setDefault(Utils.getMaximumPageSize())
         .type(Integer.class);
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
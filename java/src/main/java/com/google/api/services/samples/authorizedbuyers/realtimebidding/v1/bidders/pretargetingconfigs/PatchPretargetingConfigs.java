@@ -83,7 +83,7 @@ public class PatchPretargetingConfigs {
     Utils.printPretargetingConfig(pretargetingConfig);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("PatchPretargetingConfigs")
             .build()
@@ -108,6 +108,12 @@ public class PatchPretargetingConfigs {
                 + "all of a bidder's pretargeting configurations.")
         .setDefault(String.format("TEST_PRETARGETING_CONFIG_%s", UUID.randomUUID()));
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.bidders.pretargetingconfigs;
+
+import com.google.api.services.realtimebidding.v1.model.AppTargeting;
+import com.google.api.services.realtimebidding.v1.model.CreativeDimensions;
+import com.google.api.services.realtimebidding.v1.model.NumericTargetingDimension;
+import com.google.api.services.realtimebidding.v1.model.PretargetingConfig;
+import com.google.api.services.realtimebidding.v1.model.StringTargetingDimension;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+/**
+ * Evaluates which pretargeting configurations would match a bid request, without calling the
+ * Real-time Bidding API.
+ *
+ * <p>The configurations are compiled once into a {@link PretargetingIndex}, so that evaluating a
+ * request costs a handful of bitset operations per dimension rather than a scan of every
+ * configuration's targeting lists.
+ *
+ * <p>Evaluation follows the documented semantics of each dimension: an empty included list doesn't
+ * restrict the dimension, a request must carry one of the included IDs and none of the excluded
+ * ones, and web, mobile app and mobile app category targeting only apply to requests in the
+ * corresponding environment. Geo IDs are matched as given, so a request should carry the IDs of
+ * each level of its location, for example its city, region and country. User targeting modes
+ * aren't evaluated.
+ */
+public class PretargetingEvaluator {
+
+  /** Fills a profile with the attributes of the next synthetic bid request. */
+  public interface BidRequestGenerator {
+    void next(BidRequestProfile profile);
+  }
+
+  /** The state of configurations that are evaluated unless suspended ones are included. */
+  private static final String ACTIVE_STATE = "ACTIVE";
+
+  private final List<PretargetingConfig> configs;
+  private final PretargetingIndex index;
+
+  /** Bitsets used while matching, one pair per thread. */
+  private final ThreadLocal<long[][]> bitSets;
+
+  /**
+   * Compiles the given configurations.
+   *
+   * @param configs The configurations to evaluate, for example as returned by
+   *     pretargetingConfigs.list.
+   * @param includeSuspended Whether suspended configurations are evaluated as though they were
+   *     active.
+   */
+  public PretargetingEvaluator(List<PretargetingConfig> configs, boolean includeSuspended) {
+    List<PretargetingConfig> evaluated = new ArrayList<>();
+    for (PretargetingConfig config : configs) {
+      if (includeSuspended || ACTIVE_STATE.equals(config.getState())) {
+        evaluated.add(config);
+      }
+    }
+
+    this.configs = Collections.unmodifiableList(evaluated);
+    index = new PretargetingIndex(this.configs);
+    bitSets = ThreadLocal.withInitial(() -> new long[][] {index.newBitSet(), index.newBitSet()});
+  }
+
+  /** Returns the configurations being evaluated, indexed by ordinal. */
+  public List<PretargetingConfig> getConfigs() {
+    return configs;
+  }
+
+  /**
+   * Finds the configurations that match a request.
+   *
+   * @param request The request to evaluate.
+   * @param matchedOrdinals Receives the ordinals of the matching configurations, in ascending
+   *     order. Must be able to hold {@code getConfigs().size()} ordinals.
+   * @return The number of matching configurations.
+   */
+  public int match(BidRequestProfile request, int[] matchedOrdinals) {
+    long[][] threadBitSets = bitSets.get();
+    index.match(request, threadBitSets[0], threadBitSets[1]);
+    return PretargetingIndex.toOrdinals(threadBitSets[0], matchedOrdinals);
+  }
+
+  /** Returns the configurations that match a request. */
+  public List<PretargetingConfig> match(BidRequestProfile request) {
+    int[] matchedOrdinals = new int[configs.size()];
+    int matchCount = match(request, matchedOrdinals);
+
+    List<PretargetingConfig> matched = new ArrayList<>(matchCount);
+    for (int i = 0; i < matchCount; i++) {
+      matched.add(configs.get(matchedOrdinals[i]));
+    }
+    return matched;
+  }
+
+  /** The number of requests matched by each configuration during a simulation. */
+  public static class SimulationResult {
+    private final long requestCount;
+    private final long unmatchedCount;
+    private final long[] matchCounts;
+    private final long elapsedNanos;
+
+    SimulationResult(long requestCount, long unmatchedCount, long[] matchCounts, long elapsedNanos) {
+      this.requestCount = requestCount;
+      this.unmatchedCount = unmatchedCount;
+      this.matchCounts = matchCounts;
+      this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getRequestCount() {
+      return requestCount;
+    }
+
+    /** Returns the number of requests that matched no configuration. */
+    public long getUnmatchedCount() {
+      return unmatchedCount;
+    }
+
+    /** Returns the number of requests matched by the configuration with the given ordinal. */
+    public long getMatchCount(int ordinal) {
+      return matchCounts[ordinal];
+    }
+
+    /** Returns the fraction of requests matched by the configuration with the given ordinal. */
+    public double getMatchRate(int ordinal) {
+      return requestCount == 0 ? 0 : (double) matchCounts[ordinal] / requestCount;
+    }
+
+    public long getElapsedNanos() {
+      return elapsedNanos;
+    }
+  }
+
+  /**
+   * Evaluates many generated requests concurrently and counts the matches of each configuration.
+   *
+   * @param generators Creates the generator used by each thread, given the thread's index. Each
+   *     generator is only used by a single thread.
+   * @param requestCount The total number of requests to evaluate.
+   * @param threads The number of threads evaluating requests.
+   */
+  public SimulationResult simulate(
+      final IntFunction<BidRequestGenerator> generators, long requestCount, int threads)
+      throws InterruptedException {
+    if (threads < 1) {
+      throw new IllegalArgumentException("threads must be at least 1.");
+    }
+
+    long startNanos = System.nanoTime();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<long[]>> futures = new ArrayList<>(threads);
+
+    try {
+      for (int thread = 0; thread < threads; thread++) {
+        final int threadIndex = thread;
+        final long threadRequests =
+            requestCount / threads + (thread < requestCount % threads ? 1 : 0);
+        futures.add(
+            executor.submit(() -> countMatches(generators.apply(threadIndex), threadRequests)));
+      }
+
+      // The last slot of each thread's counts holds its number of unmatched requests.
+      long[] matchCounts = new long[configs.size()];
+      long unmatchedCount = 0;
+      for (Future<long[]> future : futures) {
+        long[] threadCounts = future.get();
+        for (int ordinal = 0; ordinal < matchCounts.length; ordinal++) {
+          matchCounts[ordinal] += threadCounts[ordinal];
+        }
+        unmatchedCount += threadCounts[matchCounts.length];
+      }
+
+      return new SimulationResult(
+          requestCount, unmatchedCount, matchCounts, System.nanoTime() - startNanos);
+    } catch (ExecutionException ex) {
+      throw new IllegalStateException("Simulating bid requests failed.", ex.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private long[] countMatches(BidRequestGenerator generator, long requestCount) {
+    BidRequestProfile request = new BidRequestProfile();
+    int[] matchedOrdinals = new int[configs.size()];
+    long[] counts = new long[configs.size() + 1];
+
+    for (long i = 0; i < requestCount; i++) {
+      generator.next(request.clear());
+      int matchCount = match(request, matchedOrdinals);
+      if (matchCount == 0) {
+        counts[configs.size()]++;
+      }
+      for (int j = 0; j < matchCount; j++) {
+        counts[matchedOrdinals[j]]++;
+      }
+    }
+    return counts;
+  }
+
+
+}
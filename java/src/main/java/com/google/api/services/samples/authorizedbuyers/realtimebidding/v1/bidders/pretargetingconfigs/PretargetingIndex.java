@@ -0,0 +1,671 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.bidders.pretargetingconfigs;
+
+import com.google.api.services.realtimebidding.v1.model.AppTargeting;
+import com.google.api.services.realtimebidding.v1.model.CreativeDimensions;
+import com.google.api.services.realtimebidding.v1.model.NumericTargetingDimension;
+import com.google.api.services.realtimebidding.v1.model.PretargetingConfig;
+import com.google.api.services.realtimebidding.v1.model.StringTargetingDimension;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An inverted index over the targeting dimensions of a list of pretargeting configurations.
+ *
+ * <p>Sets of configurations are represented as bitsets over their ordinals. For each dimension,
+ * the index maps every targeted value to the set of configurations that include or exclude it, and
+ * also records the set of configurations that restrict the dimension at all. Matching a request
+ * then starts with every configuration and, for each dimension, ANDs in the configurations that
+ * either don't restrict it or include one of the request's values, and ANDNOTs the configurations
+ * that exclude one of them.
+ *
+ * <p>Numeric values are keyed by primitive {@code long} in an open-addressing table, so lookups
+ * don't box. The configurations of a value are stored as a dense bitset, or as a sorted array of
+ * ordinals when that is smaller, so that values targeted by only a few of many configurations don't
+ * each cost a full bitset.
+ */
+public class PretargetingIndex {
+
+  /** The set of configurations associated with a single value. */
+  private abstract static class Postings {
+    /** ORs the configurations into the given bitset. */
+    abstract void orInto(long[] bits);
+
+    /** Clears the configurations from the given bitset. */
+    abstract void clearFrom(long[] bits);
+
+    abstract long memoryBytes();
+
+    /** Stores the ordinals in whichever representation is smaller. */
+    static Postings of(List<Integer> ordinals, int wordCount) {
+      if ((long) ordinals.size() * Integer.BYTES < (long) wordCount * Long.BYTES) {
+        int[] sorted = new int[ordinals.size()];
+        for (int i = 0; i < sorted.length; i++) {
+          sorted[i] = ordinals.get(i);
+        }
+        Arrays.sort(sorted);
+        return new SparsePostings(sorted);
+      }
+
+      long[] bits = new long[wordCount];
+      for (int ordinal : ordinals) {
+        bits[ordinal >>> 6] |= 1L << ordinal;
+      }
+      return new DensePostings(bits);
+    }
+  }
+
+  private static final class DensePostings extends Postings {
+    private final long[] bits;
+
+    DensePostings(long[] bits) {
+      this.bits = bits;
+    }
+
+    @Override
+    void orInto(long[] target) {
+      for (int i = 0; i < bits.length; i++) {
+        target[i] |= bits[i];
+      }
+    }
+
+    @Override
+    void clearFrom(long[] target) {
+      for (int i = 0; i < bits.length; i++) {
+        target[i] &= ~bits[i];
+      }
+    }
+
+    @Override
+    long memoryBytes() {
+      return 16 + (long) bits.length * Long.BYTES;
+    }
+  }
+
+  private static final class SparsePostings extends Postings {
+    private final int[] ordinals;
+
+    SparsePostings(int[] ordinals) {
+      this.ordinals = ordinals;
+    }
+
+    @Override
+    void orInto(long[] target) {
+      for (int ordinal : ordinals) {
+        target[ordinal >>> 6] |= 1L << ordinal;
+      }
+    }
+
+    @Override
+    void clearFrom(long[] target) {
+      for (int ordinal : ordinals) {
+        target[ordinal >>> 6] &= ~(1L << ordinal);
+      }
+    }
+
+    @Override
+    long memoryBytes() {
+      return 16 + (long) ordinals.length * Integer.BYTES;
+    }
+  }
+
+  /** Maps primitive {@code long} keys to postings using open addressing with linear probing. */
+  private static final class LongPostingsMap {
+    private final long[] keys;
+    private final Postings[] values;
+    private final int mask;
+
+    LongPostingsMap(Map<Long, List<Integer>> ordinalsByKey, int wordCount) {
+      int capacity = Integer.highestOneBit(Math.max(2, ordinalsByKey.size() * 2 - 1)) << 1;
+      keys = new long[capacity];
+      values = new Postings[capacity];
+      mask = capacity - 1;
+
+      for (Map.Entry<Long, List<Integer>> entry : ordinalsByKey.entrySet()) {
+        long key = entry.getKey();
+        int slot = slot(key);
+        while (values[slot] != null) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = Postings.of(entry.getValue(), wordCount);
+      }
+    }
+
+    private int slot(long key) {
+      long hash = key * 0x9E3779B97F4A7C15L;
+      return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    Postings get(long key) {
+      int slot = slot(key);
+      Postings value;
+      while ((value = values[slot]) != null) {
+        if (keys[slot] == key) {
+          return value;
+        }
+        slot = (slot + 1) & mask;
+      }
+      return null;
+    }
+
+    long memoryBytes() {
+      long bytes = 32 + (long) keys.length * (Long.BYTES + 4);
+      for (Postings value : values) {
+        if (value != null) {
+          bytes += value.memoryBytes();
+        }
+      }
+      return bytes;
+    }
+  }
+
+  /**
+   * The include and exclude index of a numeric dimension, optionally scoped to requests in a
+   * single environment.
+   */
+  private static final class LongDimension {
+    private final String environment;
+    private final long[] restricted;
+    private final LongPostingsMap included;
+    private final LongPostingsMap excluded;
+    private final boolean hasIncluded;
+    private final boolean hasExcluded;
+
+    LongDimension(
+        String environment,
+        long[] restricted,
+        Map<Long, List<Integer>> included,
+        Map<Long, List<Integer>> excluded,
+        int wordCount) {
+      this.environment = environment;
+      this.restricted = restricted;
+      this.included = new LongPostingsMap(included, wordCount);
+      this.excluded = new LongPostingsMap(excluded, wordCount);
+      this.hasIncluded = !included.isEmpty();
+      this.hasExcluded = !excluded.isEmpty();
+    }
+
+    void apply(BidRequestProfile request, long[] values, long[] candidates, long[] scratch) {
+      if (environment != null && !environment.equals(request.getEnvironment())) {
+        return;
+      }
+
+      if (hasIncluded) {
+        // Configurations that don't restrict the dimension always pass it.
+        for (int i = 0; i < scratch.length; i++) {
+          scratch[i] = ~restricted[i];
+        }
+        for (long value : values) {
+          Postings postings = included.get(value);
+          if (postings != null) {
+            postings.orInto(scratch);
+          }
+        }
+        and(candidates, scratch);
+      }
+
+      if (hasExcluded) {
+        for (long value : values) {
+          Postings postings = excluded.get(value);
+          if (postings != null) {
+            postings.clearFrom(candidates);
+          }
+        }
+      }
+    }
+
+    void apply(BidRequestProfile request, long value, long[] candidates, long[] scratch) {
+      if (environment != null && !environment.equals(request.getEnvironment())) {
+        return;
+      }
+
+      if (hasIncluded) {
+        for (int i = 0; i < scratch.length; i++) {
+          scratch[i] = ~restricted[i];
+        }
+        Postings postings = included.get(value);
+        if (postings != null) {
+          postings.orInto(scratch);
+        }
+        and(candidates, scratch);
+      }
+
+      if (hasExcluded) {
+        Postings postings = excluded.get(value);
+        if (postings != null) {
+          postings.clearFrom(candidates);
+        }
+      }
+    }
+
+    long memoryBytes() {
+      return 16 + (long) restricted.length * Long.BYTES
+          + included.memoryBytes()
+          + excluded.memoryBytes();
+    }
+  }
+
+  /**
+   * The inclusive and exclusive index of a string dimension, optionally scoped to requests in a
+   * single environment.
+   */
+  private static final class StringDimension {
+    private final String environment;
+    private final long[] restricted;
+    private final Map<String, Postings> included;
+    private final Map<String, Postings> excluded;
+
+    StringDimension(
+        String environment,
+        long[] restricted,
+        Map<String, List<Integer>> included,
+        Map<String, List<Integer>> excluded,
+        int wordCount) {
+      this.environment = environment;
+      this.restricted = restricted;
+      this.included = toPostings(included, wordCount);
+      this.excluded = toPostings(excluded, wordCount);
+    }
+
+    private static Map<String, Postings> toPostings(
+        Map<String, List<Integer>> ordinalsByValue, int wordCount) {
+      Map<String, Postings> postings = new HashMap<>();
+      for (Map.Entry<String, List<Integer>> entry : ordinalsByValue.entrySet()) {
+        postings.put(entry.getKey(), Postings.of(entry.getValue(), wordCount));
+      }
+      return postings;
+    }
+
+    void apply(BidRequestProfile request, String value, long[] candidates, long[] scratch) {
+      if (environment != null && !environment.equals(request.getEnvironment())) {
+        return;
+      }
+
+      if (!included.isEmpty()) {
+        for (int i = 0; i < scratch.length; i++) {
+          scratch[i] = ~restricted[i];
+        }
+        Postings postings = value == null ? null : included.get(value);
+        if (postings != null) {
+          postings.orInto(scratch);
+        }
+        and(candidates, scratch);
+      }
+
+      if (!excluded.isEmpty() && value != null) {
+        Postings postings = excluded.get(value);
+        if (postings != null) {
+          postings.clearFrom(candidates);
+        }
+      }
+    }
+
+    void apply(BidRequestProfile request, List<String> values, long[] candidates, long[] scratch) {
+      if (environment != null && !environment.equals(request.getEnvironment())) {
+        return;
+      }
+
+      if (!included.isEmpty()) {
+        for (int i = 0; i < scratch.length; i++) {
+          scratch[i] = ~restricted[i];
+        }
+        for (String value : values) {
+          Postings postings = included.get(value);
+          if (postings != null) {
+            postings.orInto(scratch);
+          }
+        }
+        and(candidates, scratch);
+      }
+
+      if (!excluded.isEmpty()) {
+        for (String value : values) {
+          Postings postings = excluded.get(value);
+          if (postings != null) {
+            postings.clearFrom(candidates);
+          }
+        }
+      }
+    }
+
+    long memoryBytes() {
+      long bytes = 16 + (long) restricted.length * Long.BYTES;
+      for (Map.Entry<String, Postings> entry : included.entrySet()) {
+        bytes += 48 + 2L * entry.getKey().length() + entry.getValue().memoryBytes();
+      }
+      for (Map.Entry<String, Postings> entry : excluded.entrySet()) {
+        bytes += 48 + 2L * entry.getKey().length() + entry.getValue().memoryBytes();
+      }
+      return bytes;
+    }
+  }
+
+  /** Collects the postings of a dimension while the index is being built. */
+  private static final class DimensionBuilder<K> {
+    final long[] restricted;
+    final Map<K, List<Integer>> included = new HashMap<>();
+    final Map<K, List<Integer>> excluded = new HashMap<>();
+
+    DimensionBuilder(int wordCount) {
+      restricted = new long[wordCount];
+    }
+
+    /**
+     * Adds a configuration's included values. An empty or {@code null} list leaves the dimension
+     * unrestricted for the configuration.
+     */
+    void include(int ordinal, Iterable<K> values) {
+      if (values == null || !values.iterator().hasNext()) {
+        return;
+      }
+      restricted[ordinal >>> 6] |= 1L << ordinal;
+      for (K value : values) {
+        included.computeIfAbsent(value, key -> new ArrayList<>()).add(ordinal);
+      }
+    }
+
+    void exclude(int ordinal, Iterable<K> values) {
+      if (values == null) {
+        return;
+      }
+      for (K value : values) {
+        excluded.computeIfAbsent(value, key -> new ArrayList<>()).add(ordinal);
+      }
+    }
+
+    /** Adds an inclusive or exclusive string targeting dimension. */
+    void add(int ordinal, StringTargetingDimension dimension, List<K> values) {
+      if (dimension == null || values == null || values.isEmpty()) {
+        return;
+      }
+      if ("EXCLUSIVE".equals(dimension.getTargetingMode())) {
+        exclude(ordinal, values);
+      } else {
+        include(ordinal, values);
+      }
+    }
+  }
+
+  private final int configCount;
+  private final int wordCount;
+  private final long[] allConfigs;
+
+  private final StringDimension formats;
+  private final StringDimension environments;
+  private final StringDimension platforms;
+  private final StringDimension languages;
+  private final StringDimension userIdTypes;
+  private final LongDimension operatingSystems;
+  private final LongDimension sizes;
+  private final LongDimension geos;
+  private final LongDimension userLists;
+  private final LongDimension verticals;
+  private final LongDimension contentLabels;
+  private final StringDimension publishers;
+  private final StringDimension sites;
+  private final StringDimension apps;
+  private final LongDimension appCategories;
+
+  /** Configurations accepting each viewability decile, indexed by decile + 1 so -1 is included. */
+  private final long[][] acceptingViewabilityDecile = new long[12][];
+  private final long[] acceptingInterstitial;
+  private final long[] acceptingNonInterstitial;
+
+  /**
+   * Indexes the given configurations. Each configuration's ordinal is its position in the list.
+   * The state of the configurations is ignored.
+   */
+  public PretargetingIndex(List<PretargetingConfig> configs) {
+    configCount = configs.size();
+    wordCount = Math.max(1, (configCount + 63) >>> 6);
+    allConfigs = new long[wordCount];
+    for (int ordinal = 0; ordinal < configCount; ordinal++) {
+      allConfigs[ordinal >>> 6] |= 1L << ordinal;
+    }
+
+    DimensionBuilder<String> formatBuilder = new DimensionBuilder<>(wordCount);
+    DimensionBuilder<String> environmentBuilder = new DimensionBuilder<>(wordCount);
+    DimensionBuilder<String> platformBuilder = new DimensionBuilder<>(wordCount);
+    DimensionBuilder<String> languageBuilder = new DimensionBuilder<>(wordCount);
+    DimensionBuilder<String> userIdTypeBuilder = new DimensionBuilder<>(wordCount);
+    DimensionBuilder<Long> operatingSystemBuilder = new DimensionBuilder<>(wordCount);
+    DimensionBuilder<Long> sizeBuilder = new DimensionBuilder<>(wordCount);
+    DimensionBuilder<Long> geoBuilder = new DimensionBuilder<>(wordCount);
+    DimensionBuilder<Long> userListBuilder = new DimensionBuilder<>(wordCount);
+    DimensionBuilder<Long> verticalBuilder = new DimensionBuilder<>(wordCount);
+    DimensionBuilder<Long> contentLabelBuilder = new DimensionBuilder<>(wordCount);
+    DimensionBuilder<String> publisherBuilder = new DimensionBuilder<>(wordCount);
+    DimensionBuilder<String> siteBuilder = new DimensionBuilder<>(wordCount);
+    DimensionBuilder<String> appBuilder = new DimensionBuilder<>(wordCount);
+    DimensionBuilder<Long> appCategoryBuilder = new DimensionBuilder<>(wordCount);
+
+    for (int decile = -1; decile <= 10; decile++) {
+      acceptingViewabilityDecile[decile + 1] = allConfigs.clone();
+    }
+    acceptingInterstitial = allConfigs.clone();
+    acceptingNonInterstitial = allConfigs.clone();
+
+    for (int ordinal = 0; ordinal < configCount; ordinal++) {
+      PretargetingConfig config = configs.get(ordinal);
+
+      formatBuilder.include(ordinal, config.getIncludedFormats());
+      environmentBuilder.include(ordinal, config.getIncludedEnvironments());
+      platformBuilder.include(ordinal, config.getIncludedPlatforms());
+      languageBuilder.include(ordinal, config.getIncludedLanguages());
+      userIdTypeBuilder.include(ordinal, config.getIncludedUserIdTypes());
+      operatingSystemBuilder.include(ordinal, config.getIncludedMobileOperatingSystemIds());
+      sizeBuilder.include(ordinal, packSizes(config.getIncludedCreativeDimensions()));
+      addNumeric(geoBuilder, ordinal, config.getGeoTargeting());
+      addNumeric(userListBuilder, ordinal, config.getUserListTargeting());
+      addNumeric(verticalBuilder, ordinal, config.getVerticalTargeting());
+      contentLabelBuilder.exclude(ordinal, config.getExcludedContentLabelIds());
+
+      StringTargetingDimension publisherTargeting = config.getPublisherTargeting();
+      if (publisherTargeting != null) {
+        publisherBuilder.add(ordinal, publisherTargeting, publisherTargeting.getValues());
+      }
+      StringTargetingDimension webTargeting = config.getWebTargeting();
+      if (webTargeting != null) {
+        siteBuilder.add(ordinal, webTargeting, normalizeSites(webTargeting.getValues()));
+      }
+      AppTargeting appTargeting = config.getAppTargeting();
+      if (appTargeting != null) {
+        StringTargetingDimension mobileAppTargeting = appTargeting.getMobileAppTargeting();
+        if (mobileAppTargeting != null) {
+          appBuilder.add(ordinal, mobileAppTargeting, mobileAppTargeting.getValues());
+        }
+        addNumeric(appCategoryBuilder, ordinal, appTargeting.getMobileAppCategoryTargeting());
+      }
+
+      Integer minimumViewabilityDecile = config.getMinimumViewabilityDecile();
+      if (minimumViewabilityDecile != null) {
+        for (int decile = -1; decile < Math.min(minimumViewabilityDecile, 11); decile++) {
+          acceptingViewabilityDecile[decile + 1][ordinal >>> 6] &= ~(1L << ordinal);
+        }
+      }
+      if ("ONLY_INTERSTITIAL_REQUESTS".equals(config.getInterstitialTargeting())) {
+        acceptingNonInterstitial[ordinal >>> 6] &= ~(1L << ordinal);
+      } else if ("ONLY_NON_INTERSTITIAL_REQUESTS".equals(config.getInterstitialTargeting())) {
+        acceptingInterstitial[ordinal >>> 6] &= ~(1L << ordinal);
+      }
+    }
+
+    formats = buildString(null, formatBuilder);
+    environments = buildString(null, environmentBuilder);
+    platforms = buildString(null, platformBuilder);
+    languages = buildString(null, languageBuilder);
+    userIdTypes = buildString(null, userIdTypeBuilder);
+    operatingSystems = buildLong(null, operatingSystemBuilder);
+    sizes = buildLong(null, sizeBuilder);
+    geos = buildLong(null, geoBuilder);
+    userLists = buildLong(null, userListBuilder);
+    verticals = buildLong(null, verticalBuilder);
+    contentLabels = buildLong(null, contentLabelBuilder);
+    publishers = buildString(null, publisherBuilder);
+    sites = buildString("WEB", siteBuilder);
+    apps = buildString("APP", appBuilder);
+    appCategories = buildLong("APP", appCategoryBuilder);
+  }
+
+  private StringDimension buildString(String environment, DimensionBuilder<String> builder) {
+    return new StringDimension(
+        environment, builder.restricted, builder.included, builder.excluded, wordCount);
+  }
+
+  private LongDimension buildLong(String environment, DimensionBuilder<Long> builder) {
+    return new LongDimension(
+        environment, builder.restricted, builder.included, builder.excluded, wordCount);
+  }
+
+  private static void addNumeric(
+      DimensionBuilder<Long> builder, int ordinal, NumericTargetingDimension dimension) {
+    if (dimension != null) {
+      builder.include(ordinal, dimension.getIncludedIds());
+      builder.exclude(ordinal, dimension.getExcludedIds());
+    }
+  }
+
+  private static List<Long> packSizes(List<CreativeDimensions> dimensions) {
+    if (dimensions == null) {
+      return null;
+    }
+
+    List<Long> packed = new ArrayList<>(dimensions.size());
+    for (CreativeDimensions size : dimensions) {
+      long width = size.getWidth() == null ? 0 : size.getWidth();
+      long height = size.getHeight() == null ? 0 : size.getHeight();
+      packed.add(BidRequestProfile.packSize(width, height));
+    }
+    return packed;
+  }
+
+  private static List<String> normalizeSites(List<String> sites) {
+    if (sites == null) {
+      return null;
+    }
+
+    List<String> normalized = new ArrayList<>(sites.size());
+    for (String site : sites) {
+      String normalizedSite = SiteUrls.normalize(site);
+      if (normalizedSite != null) {
+        normalized.add(normalizedSite);
+      }
+    }
+    return normalized;
+  }
+
+  /** Returns the number of indexed configurations. */
+  public int getConfigCount() {
+    return configCount;
+  }
+
+  /** Returns a new empty bitset large enough to hold every configuration's ordinal. */
+  public long[] newBitSet() {
+    return new long[wordCount];
+  }
+
+  /**
+   * Finds the configurations that match a request.
+   *
+   * @param request The request to evaluate.
+   * @param candidates Receives the bitset of matching configurations; from {@link #newBitSet()}.
+   * @param scratch A bitset used while matching; from {@link #newBitSet()}.
+   */
+  public void match(BidRequestProfile request, long[] candidates, long[] scratch) {
+    System.arraycopy(allConfigs, 0, candidates, 0, wordCount);
+
+    int decile = Math.max(-1, Math.min(10, request.getViewabilityDecile()));
+    and(candidates, acceptingViewabilityDecile[decile + 1]);
+    and(candidates, request.isInterstitial() ? acceptingInterstitial : acceptingNonInterstitial);
+
+    formats.apply(request, request.getFormat(), candidates, scratch);
+    environments.apply(request, request.getEnvironment(), candidates, scratch);
+    platforms.apply(request, request.getPlatform(), candidates, scratch);
+    languages.apply(request, request.getLanguage(), candidates, scratch);
+    userIdTypes.apply(request, request.getUserIdType(), candidates, scratch);
+    if (isEmpty(candidates)) {
+      return;
+    }
+
+    sizes.apply(request, request.getSizes(), candidates, scratch);
+    geos.apply(request, request.getGeoIds(), candidates, scratch);
+    userLists.apply(request, request.getUserListIds(), candidates, scratch);
+    verticals.apply(request, request.getVerticalIds(), candidates, scratch);
+    contentLabels.apply(request, request.getContentLabelIds(), candidates, scratch);
+    publishers.apply(request, request.getPublisherId(), candidates, scratch);
+    if (isEmpty(candidates)) {
+      return;
+    }
+
+    if ("WEB".equals(request.getEnvironment())) {
+      sites.apply(request, request.getSiteMatchCandidates(), candidates, scratch);
+    }
+    apps.apply(request, request.getAppId(), candidates, scratch);
+    appCategories.apply(request, request.getMobileAppCategoryIds(), candidates, scratch);
+    // An unknown operating system ID of 0 matches no included ID.
+    operatingSystems.apply(request, request.getMobileOperatingSystemId(), candidates, scratch);
+  }
+
+  /**
+   * Writes the ordinals set in a bitset to the given array in ascending order.
+   *
+   * @return The number of ordinals written.
+   */
+  public static int toOrdinals(long[] bits, int[] ordinals) {
+    int count = 0;
+    for (int word = 0; word < bits.length; word++) {
+      long remaining = bits[word];
+      while (remaining != 0) {
+        ordinals[count++] = (word << 6) + Long.numberOfTrailingZeros(remaining);
+        remaining &= remaining - 1;
+      }
+    }
+    return count;
+  }
+
+  /** Returns an estimate of the heap memory held by the index, in bytes. */
+  public long estimateMemoryBytes() {
+    long bytes = (long) wordCount * Long.BYTES * (acceptingViewabilityDecile.length + 3);
+    bytes += formats.memoryBytes() + environments.memoryBytes() + platforms.memoryBytes();
+    bytes += languages.memoryBytes() + userIdTypes.memoryBytes();
+    bytes += operatingSystems.memoryBytes() + sizes.memoryBytes() + geos.memoryBytes();
+    bytes += userLists.memoryBytes() + verticals.memoryBytes() + contentLabels.memoryBytes();
+    bytes += publishers.memoryBytes() + sites.memoryBytes() + apps.memoryBytes();
+    bytes += appCategories.memoryBytes();
+    return bytes;
+  }
+
+  private static void and(long[] target, long[] bits) {
+    for (int i = 0; i < target.length; i++) {
+      target[i] &= bits[i];
+    }
+  }
+
+  private static boolean isEmpty(long[] bits) {
+    for (long word : bits) {
+      if (word != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
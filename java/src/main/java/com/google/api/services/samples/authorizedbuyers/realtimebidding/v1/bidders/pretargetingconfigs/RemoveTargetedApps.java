@@ -59,7 +59,7 @@ public class RemoveTargetedApps {
     Utils.printPretargetingConfig(pretargetingConfig);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("RemoveTargetedApps")
             .build()
@@ -89,6 +89,12 @@ public class RemoveTargetedApps {
         .type(String.class)
         .nargs("*");
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
@@ -59,7 +59,7 @@ public class RemoveTargetedPublishers {
     Utils.printPretargetingConfig(pretargetingConfig);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("RemoveTargetedPublishers")
             .build()
@@ -90,6 +90,12 @@ public class RemoveTargetedPublishers {
         .type(String.class)
         .nargs("*");
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.bidders.pretargetingconfigs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/** Normalizes site URLs the way they are compared against a pretargeting config's web targeting. */
+public final class SiteUrls {
+
+  private SiteUrls() {}
+
+  /**
+   * Normalizes a site URL by lowercasing it and removing its scheme, a leading "www.", any query
+   * string or fragment, and trailing slashes.
+   *
+   * @return The normalized URL, or {@code null} if nothing remains after normalizing.
+   */
+  public static String normalize(String url) {
+    if (url == null) {
+      return null;
+    }
+
+    String normalized = url.trim().toLowerCase(Locale.ROOT);
+    int schemeEnd = normalized.indexOf("://");
+    if (schemeEnd >= 0) {
+      normalized = normalized.substring(schemeEnd + 3);
+    }
+    if (normalized.startsWith("www.")) {
+      normalized = normalized.substring(4);
+    }
+
+    int end = normalized.length();
+    for (int i = 0; i < normalized.length(); i++) {
+      char c = normalized.charAt(i);
+      if (c == '?' || c == '#') {
+        end = i;
+        break;
+      }
+    }
+    while (end > 0 && normalized.charAt(end - 1) == '/') {
+      end--;
+    }
+
+    return end == 0 ? null : normalized.substring(0, end);
+  }
+
+  /**
+   * Returns the targeting values that a normalized site URL matches: the URL itself, its host, and
+   * each parent domain of its host down to the registrable domain. For example,
+   * "news.example.com/sports" matches "news.example.com/sports", "news.example.com" and
+   * "example.com".
+   */
+  public static List<String> matchCandidates(String normalizedUrl) {
+    List<String> candidates = new ArrayList<>(4);
+    if (normalizedUrl == null) {
+      return candidates;
+    }
+
+    candidates.add(normalizedUrl);
+    int pathStart = normalizedUrl.indexOf('/');
+    String host = pathStart < 0 ? normalizedUrl : normalizedUrl.substring(0, pathStart);
+    if (pathStart >= 0) {
+      candidates.add(host);
+    }
+
+    // Stop before the top-level domain, which isn't a meaningful targeting value on its own.
+    int dot = host.indexOf('.');
+    while (dot >= 0 && host.indexOf('.', dot + 1) >= 0) {
+      host = host.substring(dot + 1);
+      candidates.add(host);
+      dot = host.indexOf('.');
+    }
+
+    return candidates;
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.api.services.samples.authorizedbuyers.realtimebidding.v1.bidders.pretargetingconfigs;
+
+import com.google.api.services.realtimebidding.v1.model.AppTargeting;
+import com.google.api.services.realtimebidding.v1.model.CreativeDimensions;
+import com.google.api.services.realtimebidding.v1.model.NumericTargetingDimension;
+import com.google.api.services.realtimebidding.v1.model.PretargetingConfig;
+import com.google.api.services.realtimebidding.v1.model.StringTargetingDimension;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Generates synthetic bid requests whose attributes are drawn from the values targeted by a set of
+ * pretargeting configurations, mixed with common values that no configuration mentions.
+ *
+ * <p>Drawing from the targeted values makes it likely that each generated request matches some
+ * configurations, so that the relative share of requests matched by each configuration is
+ * meaningful. Generators are deterministic for a given seed and are not thread-safe.
+ */
+public class SyntheticBidRequestGenerator implements PretargetingEvaluator.BidRequestGenerator {
+
+  private static final List<String> FORMATS = Arrays.asList("HTML", "NATIVE", "VIDEO");
+  private static final List<String> ENVIRONMENTS = Arrays.asList("APP", "WEB");
+  private static final List<String> PLATFORMS =
+      Arrays.asList("PERSONAL_COMPUTER", "PHONE", "TABLET", "CONNECTED_TV");
+  private static final List<String> LANGUAGES = Arrays.asList("en", "es", "fr", "de", "ja");
+  private static final List<String> USER_ID_TYPES =
+      Arrays.asList("HOSTED_MATCH_DATA", "GOOGLE_COOKIE", "DEVICE_ID");
+
+  /** IDs that aren't expected to be targeted, used to generate requests that fall outside. */
+  private static final long UNTARGETED_ID_BASE = 9_000_000_000L;
+
+  /** The largest number of user lists a generated user belongs to. */
+  private static final int MAXIMUM_USER_LISTS = 3;
+
+  private final SplittableRandom random;
+  private final double untargetedRate;
+
+  private final String[] formats;
+  private final String[] environments;
+  private final String[] platforms;
+  private final String[] languages;
+  private final String[] userIdTypes;
+  private final long[] geoIds;
+  private final long[] userListIds;
+  private final long[] verticalIds;
+  private final long[] contentLabelIds;
+  private final long[] mobileAppCategoryIds;
+  private final long[] operatingSystemIds;
+  private final long[] sizes;
+  private final String[] appIds;
+  private final String[] siteUrls;
+  private final String[] publisherIds;
+
+  /** Reusable ID arrays, indexed by length, so that generating a request doesn't allocate. */
+  private final long[][] geoIdArrays = new long[2][];
+  private final long[][] userListIdArrays = new long[MAXIMUM_USER_LISTS + 1][];
+  private final long[] verticalIdArray = new long[1];
+  private final long[] contentLabelIdArray = new long[1];
+  private final long[] mobileAppCategoryIdArray = new long[1];
+  private final long[] sizeArray = new long[1];
+
+  /**
+   * @param configs The configurations whose targeted values the requests are drawn from.
+   * @param seed The seed of the generator's random number sequence.
+   * @param untargetedRate The probability with which each ID-valued attribute is given a value that
+   *     no configuration targets, from 0 to 1.
+   */
+  public SyntheticBidRequestGenerator(
+      List<PretargetingConfig> configs, long seed, double untargetedRate) {
+    this.random = new SplittableRandom(seed);
+    this.untargetedRate = untargetedRate;
+
+    Set<String> formatPool = new LinkedHashSet<>(FORMATS);
+    Set<String> environmentPool = new LinkedHashSet<>(ENVIRONMENTS);
+    Set<String> platformPool = new LinkedHashSet<>(PLATFORMS);
+    Set<String> languagePool = new LinkedHashSet<>(LANGUAGES);
+    Set<String> userIdTypePool = new LinkedHashSet<>(USER_ID_TYPES);
+    Set<Long> geoPool = new LinkedHashSet<>();
+    Set<Long> userListPool = new LinkedHashSet<>();
+    Set<Long> verticalPool = new LinkedHashSet<>();
+    Set<Long> contentLabelPool = new LinkedHashSet<>();
+    Set<Long> appCategoryPool = new LinkedHashSet<>();
+    Set<Long> operatingSystemPool = new LinkedHashSet<>();
+    Set<Long> sizePool = new LinkedHashSet<>();
+    Set<String> appPool = new LinkedHashSet<>();
+    Set<String> sitePool = new LinkedHashSet<>();
+    Set<String> publisherPool = new LinkedHashSet<>();
+
+    for (PretargetingConfig config : configs) {
+      addAll(formatPool, config.getIncludedFormats());
+      addAll(environmentPool, config.getIncludedEnvironments());
+      addAll(platformPool, config.getIncludedPlatforms());
+      addAll(languagePool, config.getIncludedLanguages());
+      addAll(userIdTypePool, config.getIncludedUserIdTypes());
+      addIds(geoPool, config.getGeoTargeting());
+      addIds(userListPool, config.getUserListTargeting());
+      addIds(verticalPool, config.getVerticalTargeting());
+      addAll(contentLabelPool, config.getExcludedContentLabelIds());
+      addAll(operatingSystemPool, config.getIncludedMobileOperatingSystemIds());
+      addValues(sitePool, config.getWebTargeting());
+      addValues(publisherPool, config.getPublisherTargeting());
+
+      AppTargeting appTargeting = config.getAppTargeting();
+      if (appTargeting != null) {
+        addValues(appPool, appTargeting.getMobileAppTargeting());
+        addIds(appCategoryPool, appTargeting.getMobileAppCategoryTargeting());
+      }
+
+      List<CreativeDimensions> dimensions = config.getIncludedCreativeDimensions();
+      if (dimensions != null) {
+        for (CreativeDimensions size : dimensions) {
+          sizePool.add(BidRequestProfile.packSize(valueOf(size.getWidth()), valueOf(size.getHeight())));
+        }
+      }
+    }
+    sizePool.add(BidRequestProfile.packSize(300, 250));
+    sizePool.add(BidRequestProfile.packSize(728, 90));
+    appPool.add("com.example.untargeted");
+    sitePool.add("untargeted.example.com");
+    publisherPool.add("pub-0000000000000000");
+
+    formats = formatPool.toArray(new String[0]);
+    environments = environmentPool.toArray(new String[0]);
+    platforms = platformPool.toArray(new String[0]);
+    languages = languagePool.toArray(new String[0]);
+    userIdTypes = userIdTypePool.toArray(new String[0]);
+    geoIds = toArray(geoPool);
+    userListIds = toArray(userListPool);
+    verticalIds = toArray(verticalPool);
+    contentLabelIds = toArray(contentLabelPool);
+    mobileAppCategoryIds = toArray(appCategoryPool);
+    operatingSystemIds = toArray(operatingSystemPool);
+    sizes = toArray(sizePool);
+    appIds = appPool.toArray(new String[0]);
+    siteUrls = sitePool.toArray(new String[0]);
+    publisherIds = publisherPool.toArray(new String[0]);
+
+    for (int length = 0; length < geoIdArrays.length; length++) {
+      geoIdArrays[length] = new long[length + 1];
+    }
+    for (int length = 0; length < userListIdArrays.length; length++) {
+      userListIdArrays[length] = new long[length];
+    }
+  }
+
+  @Override
+  public void next(BidRequestProfile profile) {
+    String environment = pick(environments);
+    profile
+        .setFormat(pick(formats))
+        .setEnvironment(environment)
+        .setPlatform(pick(platforms))
+        .setLanguage(pick(languages))
+        .setUserIdType(pick(userIdTypes))
+        .setViewabilityDecile(random.nextInt(11))
+        .setInterstitial(random.nextInt(10) == 0)
+        .setPublisherId(pick(publisherIds));
+
+    // A request sometimes carries both a region and a country, like a real location would.
+    long[] geo = geoIdArrays[random.nextInt(geoIdArrays.length)];
+    for (int i = 0; i < geo.length; i++) {
+      geo[i] = pickId(geoIds);
+    }
+    profile.setGeoIds(geo);
+
+    long[] userLists = userListIdArrays[random.nextInt(userListIdArrays.length)];
+    for (int i = 0; i < userLists.length; i++) {
+      userLists[i] = pickId(userListIds);
+    }
+    profile.setUserListIds(userLists);
+
+    verticalIdArray[0] = pickId(verticalIds);
+    profile.setVerticalIds(verticalIdArray);
+    sizeArray[0] = sizes[random.nextInt(sizes.length)];
+    profile.setSizes(sizeArray);
+
+    if (random.nextInt(20) == 0) {
+      contentLabelIdArray[0] = pickId(contentLabelIds);
+      profile.setContentLabelIds(contentLabelIdArray);
+    }
+
+    if ("APP".equals(environment)) {
+      mobileAppCategoryIdArray[0] = pickId(mobileAppCategoryIds);
+      profile
+          .setAppId(pick(appIds))
+          .setMobileAppCategoryIds(mobileAppCategoryIdArray)
+          .setMobileOperatingSystemId(pickId(operatingSystemIds));
+    } else {
+      profile.setSiteUrl(pick(siteUrls));
+    }
+  }
+
+  private String pick(String[] values) {
+    return values[random.nextInt(values.length)];
+  }
+
+  /** Picks a targeted ID, or occasionally one that no configuration targets. */
+  private long pickId(long[] ids) {
+    if (ids.length == 0 || random.nextDouble() < untargetedRate) {
+      return UNTARGETED_ID_BASE + random.nextInt(1000);
+    }
+    return ids[random.nextInt(ids.length)];
+  }
+
+  private static <T> void addAll(Set<T> pool, Collection<T> values) {
+    if (values != null) {
+      pool.addAll(values);
+    }
+  }
+
+  private static void addIds(Set<Long> pool, NumericTargetingDimension dimension) {
+    if (dimension != null) {
+      addAll(pool, dimension.getIncludedIds());
+      addAll(pool, dimension.getExcludedIds());
+    }
+  }
+
+  private static void addValues(Set<String> pool, StringTargetingDimension dimension) {
+    if (dimension != null) {
+      addAll(pool, dimension.getValues());
+    }
+  }
+
+  private static long[] toArray(Set<Long> pool) {
+    long[] array = new long[pool.size()];
+    int i = 0;
+    for (Long value : pool) {
+      array[i++] = value;
+    }
+    return array;
+  }
+
+  private static long valueOf(Long value) {
+    return value == null ? 0 : value;
+  }
+}
@@ -67,7 +67,7 @@ public class BatchApprovePublisherConnections {
     }
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("BatchApprovePublisherConnections")
             .build()
@@ -91,6 +91,12 @@ public class BatchApprovePublisherConnections {
         .required(true)
         .nargs("+");
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
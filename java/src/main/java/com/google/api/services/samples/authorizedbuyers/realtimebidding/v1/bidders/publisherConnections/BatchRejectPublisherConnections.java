@@ -65,7 +65,7 @@ public class BatchRejectPublisherConnections {
     }
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("BatchRejectPublisherConnections")
             .build()
@@ -89,6 +89,12 @@ public class BatchRejectPublisherConnections {
         .required(true)
         .nargs("+");
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
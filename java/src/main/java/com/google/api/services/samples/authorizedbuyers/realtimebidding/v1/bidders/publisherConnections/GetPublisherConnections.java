@@ -47,7 +47,7 @@ public class GetPublisherConnections {
     Utils.printPublisherConnection(publisherConnection);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("GetPublisherConnections")
             .build()
@@ -70,6 +70,12 @@ public class GetPublisherConnections {
                 + " used as a path parameter for the publisherConnections.get request.")
         .required(true);
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
@@ -67,7 +67,7 @@ public class ListPublisherConnections {
     } while (pageToken != null);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("ListPublisherConnections")
             .build()
@@ -100,6 +100,12 @@ public class ListPublisherConnections {
         .setDefault(Utils.getMaximumPageSize())
         .type(Integer.class);
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
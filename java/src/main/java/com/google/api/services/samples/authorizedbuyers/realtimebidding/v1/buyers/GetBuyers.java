@@ -43,7 +43,7 @@ public class GetBuyers {
     Utils.printBuyer(buyer);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("GetCreatives")
             .build()
@@ -57,6 +57,12 @@ public class GetBuyers {
         .required(true)
         .type(Long.class);
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
@@ -56,7 +56,7 @@ public class ListBuyers {
     } while (pageToken != null);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("ListCreatives")
             .build()
@@ -72,6 +72,12 @@ public class ListBuyers {
         .setDefault(Utils.getMaximumPageSize())
         .type(Integer.class);
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
@@ -58,7 +58,7 @@ public class CreateHtmlCreatives {
     Utils.printCreative(creative);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("CreateHtmlCreatives")
             .build()
@@ -118,6 +118,12 @@ public class CreateHtmlCreatives {
         .type(Integer.class)
         .setDefault(300);
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
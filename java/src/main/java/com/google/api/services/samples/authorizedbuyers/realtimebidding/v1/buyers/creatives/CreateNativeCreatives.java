@@ -74,7 +74,7 @@ public class CreateNativeCreatives {
     Utils.printCreative(creative);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("CreateNativeCreatives")
             .build()
@@ -169,6 +169,12 @@ public class CreateNativeCreatives {
         .help("The URL to use for click tracking.")
         .setDefault("https://native.test.com/click?id=123456");
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
@@ -56,7 +56,7 @@ public class CreateVideoCreatives {
     Utils.printCreative(creative);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("CreateVideoCreatives")
             .build()
@@ -103,6 +103,12 @@ public class CreateVideoCreatives {
         .help("The URL to fetch a video ad.")
         .setDefault("https://video.test.com/ads?id=123456&wprice=%%WINNING_PRICE%%");
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
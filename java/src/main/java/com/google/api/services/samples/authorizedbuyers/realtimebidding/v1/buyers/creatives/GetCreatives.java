@@ -45,7 +45,7 @@ public class GetCreatives {
     Utils.printCreative(creative);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("GetCreatives")
             .build()
@@ -76,6 +76,12 @@ public class GetCreatives {
         .choices("FULL", "SERVING_DECISION_ONLY")
         .setDefault("FULL");
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
@@ -66,7 +66,7 @@ public class ListCreatives {
     } while (pageToken != null);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("ListCreatives")
             .build()
@@ -107,6 +107,12 @@ public class ListCreatives {
         .choices("FULL", "SERVING_DECISION_ONLY")
         .setDefault("FULL");
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
@@ -56,7 +56,7 @@ public class PatchCreatives {
     Utils.printCreative(creative);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("PatchCreatives")
             .build()
@@ -77,6 +77,12 @@ public class PatchCreatives {
                 + " creatives.patch request.")
         .required(true);
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
@@ -70,7 +70,7 @@ public class CreateUserLists {
     Utils.printUserList(userList);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     DateTimeFormatter formatter = Utils.getDateTimeFormatterForLocalDate();
     LocalDate defaultStartDate = new LocalDate();
     LocalDate defaultEndDate = defaultStartDate.plusDays(1);
@@ -133,6 +133,12 @@ public class CreateUserLists {
         .type(Long.class)
         .setDefault(30);
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);
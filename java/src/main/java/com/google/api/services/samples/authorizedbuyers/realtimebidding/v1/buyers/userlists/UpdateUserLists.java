@@ -99,7 +99,7 @@ public class UpdateUserLists {
     Utils.printUserList(updatedUserList);
   }
 
-  public static void main(String[] args) {
+  public static ArgumentParser buildArgumentParser() {
     ArgumentParser parser =
         ArgumentParsers.newFor("CreateUserLists")
             .build()
@@ -163,6 +163,12 @@ public class UpdateUserLists {
                 + "between 0 and 540 inclusive. This will be set to 30 by default.")
         .type(Long.class);
 
+    return parser;
+  }
+
+  public static void main(String[] args) {
+    ArgumentParser parser = buildArgumentParser();
+
     Namespace parsedArgs = null;
     try {
       parsedArgs = parser.parseArgs(args);